@@ -15,6 +15,8 @@
 package com.norconex.jef4;
 
 import java.io.File;
+import java.lang.reflect.InvocationTargetException;
+import java.util.concurrent.ThreadFactory;
 
 import com.norconex.commons.lang.file.FileUtil;
 
@@ -23,6 +25,12 @@ public final class JEFUtil {
     public static final File FALLBACK_WORKDIR = 
             new File(System.getProperty("user.home") + "/Norconex/jef/workdir");
 
+    /**
+     * Extension of job suite heartbeat files.
+     * @since 4.1.0
+     */
+    public static final String HEARTBEAT_FILE_EXTENSION = ".heartbeat";
+
     private JEFUtil() {
         super();
     }
@@ -38,4 +46,40 @@ public final class JEFUtil {
         return new File(suiteWorkdir + File.separator + "latest"
                 + File.separator + FileUtil.toSafeFileName(suiteId) + ".index");
     }
+
+    /**
+     * Gets the heartbeat file of a job suite, proving its jobs are running.
+     * @param suiteWorkdir suite working directory
+     * @param suiteId suite unique ID (ID of the root job)
+     * @return the heartbeat file
+     * @since 4.1.0
+     */
+    public static File getSuiteHeartbeatFile(
+            String suiteWorkdir, String suiteId) {
+        return new File(suiteWorkdir + File.separator + "latest"
+                + File.separator + FileUtil.toSafeFileName(suiteId)
+                + HEARTBEAT_FILE_EXTENSION);
+    }
+
+    /**
+     * Creates a factory of virtual threads, for running I/O-bound jobs
+     * without dedicating a platform thread to each of them
+     * (see {@link com.norconex.jef4.suite.JobSuiteConfig#setThreadFactory(
+     * ThreadFactory)}).  Virtual threads require Java 21 or higher.
+     * @return virtual thread factory, or <code>null</code> if virtual
+     *         threads are not supported by the running JVM
+     * @since 4.1.0
+     */
+    public static ThreadFactory newVirtualThreadFactory() {
+        // Obtained by reflection to remain compatible with older JVMs
+        try {
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            return (ThreadFactory) builderClass.getMethod(
+                    "factory").invoke(builder);
+        } catch (NoSuchMethodException | ClassNotFoundException
+                | IllegalAccessException | InvocationTargetException e) {
+            return null;
+        }
+    }
 }
@@ -14,6 +14,8 @@
  */
 package com.norconex.jef4.exec;
 
+import java.util.concurrent.ThreadFactory;
+
 import com.norconex.commons.lang.io.IStreamListener;
 import com.norconex.commons.lang.io.StreamGobbler;
 import com.norconex.jef4.suite.JobSuite;
@@ -130,7 +132,29 @@ public final class ExecUtils {
             Process process,
             IStreamListener[] outputListeners,
             IStreamListener[] errorListeners) throws InterruptedException {
-        watchProcessOutput(process, outputListeners, errorListeners);
+        return watchProcess(process, outputListeners, errorListeners, null);
+    }
+    /**
+     * Watches a running process.  This method is the same as 
+     * {@link #watchProcess(Process, IStreamListener[], IStreamListener[])}
+     * except for process outputs being read by threads created with the
+     * given thread factory.
+     * @param process the process to watch
+     * @param outputListeners the process output listeners
+     * @param errorListeners the process error listeners 
+     * @param threadFactory factory creating threads reading process
+     *        outputs (<code>null</code> creates platform threads)
+     * @return process exit value
+     * @throws InterruptedException problem while waiting for process to finish
+     * @since 4.1.0
+     */
+    public static int watchProcess(
+            Process process,
+            IStreamListener[] outputListeners,
+            IStreamListener[] errorListeners,
+            ThreadFactory threadFactory) throws InterruptedException {
+        watchProcessOutput(
+                process, outputListeners, errorListeners, threadFactory);
         return process.waitFor();
     }
     
@@ -169,28 +193,50 @@ public final class ExecUtils {
             Process process,
             IStreamListener[] outputListeners,
             IStreamListener[] errorListeners) {
-        final String jobId = JobSuite.getCurrentJobId();
+        watchProcessOutput(process, outputListeners, errorListeners, null);
+    }
+    /**
+     * Watches process output.  This method is the same as 
+     * {@link #watchProcessOutput(Process, IStreamListener[], 
+     * IStreamListener[])} except for process outputs being read by
+     * threads created with the given thread factory.
+     * @param process the process on which to watch outputs
+     * @param outputListeners the process output listeners
+     * @param errorListeners the process error listeners 
+     * @param threadFactory factory creating threads reading process
+     *        outputs (<code>null</code> creates platform threads)
+     * @since 4.1.0
+     */
+    public static void watchProcessOutput(
+            Process process,
+            IStreamListener[] outputListeners,
+            IStreamListener[] errorListeners,
+            ThreadFactory threadFactory) {
         // listen for output
         StreamGobbler output = 
-                new StreamGobbler(process.getInputStream(), STDOUT) {
-            @Override
-            protected void beforeStreaming() {
-                JobSuite.setCurrentJobId(jobId);
-            }
-        };
+                new StreamGobbler(process.getInputStream(), STDOUT);
         output.addStreamListener(outputListeners);
-        output.start();
+        gobble(output, threadFactory);
 
         // listen for error
         StreamGobbler error = 
-            new StreamGobbler(process.getErrorStream(), STDERR) {
-            @Override
-            protected void beforeStreaming() {
-                JobSuite.setCurrentJobId(jobId);
-            }
-        };
+            new StreamGobbler(process.getErrorStream(), STDERR);
         error.addStreamListener(errorListeners);
-        error.start();
+        gobble(error, threadFactory);
+    }
+
+    // Gobblers are run by a new thread rather than started, so they can
+    // run on threads from a factory.
+    private static void gobble(
+            StreamGobbler gobbler, ThreadFactory threadFactory) {
+        Runnable runnable = JobSuite.propagateCurrentJobId(gobbler);
+        Thread thread;
+        if (threadFactory == null) {
+            thread = new Thread(runnable);
+        } else {
+            thread = threadFactory.newThread(runnable);
+        }
+        thread.start();
     }
     
 }
@@ -19,6 +19,7 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.ThreadFactory;
 
 import org.apache.commons.lang3.ArrayUtils;
 import org.apache.commons.lang3.SystemUtils;
@@ -68,6 +69,7 @@ public class SystemCommand {
             Collections.synchronizedList(new ArrayList<IStreamListener>());
 
     private Process process;
+    private ThreadFactory threadFactory;
     
     /**
      * Creates a command for which the execution will be in the working
@@ -127,6 +129,25 @@ public class SystemCommand {
     	return workdir;
     }
 
+    /**
+     * Gets the factory creating threads reading the command outputs.
+     * @return thread factory, or <code>null</code> if platform threads
+     *         are created
+     * @since 4.1.0
+     */
+    public ThreadFactory getThreadFactory() {
+        return threadFactory;
+    }
+    /**
+     * Sets the factory creating threads reading the command outputs.
+     * Default is <code>null</code> (platform threads are created).
+     * @param threadFactory thread factory
+     * @since 4.1.0
+     */
+    public void setThreadFactory(ThreadFactory threadFactory) {
+        this.threadFactory = threadFactory;
+    }
+
     /**
      * Adds an error (STDERR) listener to this system command.
      * @param listener command error listener
@@ -237,7 +258,8 @@ public class SystemCommand {
             ExecUtils.watchProcessOutput(
                     process, 
                     outputListeners.toArray(EMPTY_LISTENERS),
-                    errorListeners.toArray(EMPTY_LISTENERS));
+                    errorListeners.toArray(EMPTY_LISTENERS),
+                    threadFactory);
             try {
                 // Check in case the process terminated abruptly.
                 exitValue = process.exitValue();
@@ -248,7 +270,8 @@ public class SystemCommand {
             exitValue = ExecUtils.watchProcess(
                     process, 
                     outputListeners.toArray(EMPTY_LISTENERS),
-                    errorListeners.toArray(EMPTY_LISTENERS));
+                    errorListeners.toArray(EMPTY_LISTENERS),
+                    threadFactory);
         }
         if (LOG.isDebugEnabled()) {
             LOG.debug("Command returned with exit value " + exitValue
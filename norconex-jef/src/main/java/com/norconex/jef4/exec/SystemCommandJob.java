@@ -99,6 +99,10 @@ public class SystemCommandJob implements IJob {
                 LOG.debug("Executing command: " + systemCommand);
             }
             statusUpdater.setNote("Executing: " + systemCommand);
+            if (systemCommand.getThreadFactory() == null) {
+                systemCommand.setThreadFactory(
+                        suite.getConfig().getThreadFactory());
+            }
             try {
                 systemCommand.execute();
                 statusUpdater.setProgress(commandsRan / commandCount);
@@ -0,0 +1,40 @@
+/* Copyright 2026 Norconex Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.norconex.jef4.job;
+
+import java.util.Map;
+
+/**
+ * A job requiring resources from resource pools shared by all jobs of 
+ * a suite (e.g., database connections, memory), as configured with
+ * {@link com.norconex.jef4.suite.JobSuiteConfig#setResourcePool(
+ * String, int)}.  A job suite only starts such a job when all 
+ * its required resources are available, holding them until the job
+ * returns.  Jobs waiting for resources are started in the order they
+ * asked for them.
+ * <br><br>
+ * Job groups should not require resources also required by their jobs,
+ * as their jobs could then wait forever.
+ * @author agent
+ * @since 4.1.0
+ */
+public interface IResourceBoundJob extends IJob {
+
+    /**
+     * Gets the resources required by this job.
+     * @return amount of resources required, keyed by resource pool name
+     */
+    Map<String, Integer> getRequiredResources();
+}
@@ -0,0 +1,43 @@
+/* Copyright 2026 Norconex Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.norconex.jef4.job;
+
+/**
+ * A job with a scheduling priority and a relative cost, used by job groups
+ * to decide which jobs to run first and how much each job contributes
+ * to the group progress.  Jobs not implementing this interface have
+ * a priority of zero and a weight of one.
+ * @author agent
+ * @since 4.1.0
+ * @see com.norconex.jef4.job.group.AsyncJobGroup
+ */
+public interface IWeightedJob extends IJob {
+
+    /**
+     * Gets the job priority.  Jobs with a higher priority are started
+     * first by groups running jobs concurrently.  
+     * @return job priority
+     */
+    int getPriority();
+
+    /**
+     * Gets the job relative cost (e.g., its expected duration).
+     * Among jobs of the same priority, the costliest are started first
+     * by groups running jobs concurrently, and a group progress gives
+     * more importance to the progress of costly jobs.  
+     * @return job weight, zero or more
+     */
+    double getWeight();
+}
@@ -14,19 +14,27 @@
  */
 package com.norconex.jef4.job.group;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
 
 import org.apache.commons.lang3.ArrayUtils;
 
 import com.norconex.jef4.job.IJob;
+import com.norconex.jef4.job.IWeightedJob;
 import com.norconex.jef4.status.IJobStatus;
+import com.norconex.jef4.status.JobState;
 import com.norconex.jef4.status.JobStatusUpdater;
+import com.norconex.jef4.status.MutableJobStatus;
 import com.norconex.jef4.suite.JobSuite;
 
 /**
  * Base implementation for job groups.  The group progress is an average
- * of all job progress it contains.
+ * of all job progress it contains.  Since 4.1.0, the progress of 
+ * jobs implementing {@link IWeightedJob} is weighted by their cost.
  * @author Pascal Essiembre
  */
 @SuppressWarnings("nls")
@@ -34,13 +42,14 @@ public abstract class AbstractJobGroup implements IJobGroup {
 
     /** Jobs that make up the group. */
     private final IJob[] jobs;
-    /** For faster references caches the job ids. */
-    private final List<String> jobIds;
+    /** For faster references caches the job ids, with their index. */
+    private final Map<String, Integer> jobIndexes;
 
     /** Job group unique identifier. */
     private String id;
     
-    private GroupStatusUpdater groupUpdater;
+    // Set when executed, cleared when stopped, and read from job threads
+    private volatile GroupStatusUpdater groupUpdater;
     
     /**
      * Constructor.
@@ -59,9 +68,9 @@ public abstract class AbstractJobGroup implements IJobGroup {
         } else {
             this.jobs = jobs;
         }
-        this.jobIds = new ArrayList<String>(this.jobs.length);
+        this.jobIndexes = new HashMap<String, Integer>(this.jobs.length * 2);
         for (int i = 0; i < this.jobs.length; i++) {
-            jobIds.add(this.jobs[i].getId());
+            jobIndexes.put(this.jobs[i].getId(), i);
         }
     }
 
@@ -84,7 +93,11 @@ public abstract class AbstractJobGroup implements IJobGroup {
 
     @Override
     public void groupProgressed(IJobStatus childJobStatus) {
-        groupUpdater.childStatusChanged(childJobStatus);
+        // Jobs may still report progress after this group was stopped
+        GroupStatusUpdater updater = groupUpdater;
+        if (updater != null) {
+            updater.childStatusChanged(childJobStatus);
+        }
     }
     
     @Override
@@ -95,33 +108,121 @@ public abstract class AbstractJobGroup implements IJobGroup {
     /*default*/ GroupStatusUpdater getGroupStatusUpdater() {
         return groupUpdater;
     }
+
+    // Job groups are not stopped themselves, as they still have 
+    // to track their jobs until they return. Their running jobs
+    // are stopped instead.
+    /*default*/ static void stopJob(
+            final JobSuite suite, final IJob job, boolean onlyIfRunning) {
+        final IJobStatus status = suite.getJobStatus(job);
+        if (status == null || onlyIfRunning 
+                && status.getState() != JobState.RUNNING) {
+            return;
+        }
+        ((MutableJobStatus) status).setStopRequested(true);
+        if (job instanceof IJobGroup) {
+            for (IJob childJob : ((IJobGroup) job).getJobs()) {
+                stopJob(suite, childJob, true);
+            }
+            return;
+        }
+        // Stopping may take time, do not hold this thread
+        suite.newThread(new Runnable() {
+            @Override
+            public void run() {
+                job.stop(status, suite);
+            }
+        }, "JEF stop job: " + job.getId()).start();
+    }
+
+    /*default*/ static int getPriority(IJob job) {
+        if (job instanceof IWeightedJob) {
+            return ((IWeightedJob) job).getPriority();
+        }
+        return 0;
+    }
+    /*default*/ static double getWeight(IJob job) {
+        if (job instanceof IWeightedJob) {
+            return Math.max(0d, ((IWeightedJob) job).getWeight());
+        }
+        return 1d;
+    }
+
+    /**
+     * Computes the group progress from child job progress without locking.
+     * Child progress values are kept as fixed-point numbers so their sum
+     * can be maintained atomically and exactly, in constant time.
+     * Each child progress is scaled by its weight relative to the
+     * average weight, so the sum still adds up to the number of jobs
+     * once all completed (and is unchanged when jobs are not weighted).
+     * Only one thread at a time publishes the group status, and it
+     * publishes again if child progress changed meanwhile, so the last
+     * published status always reflects the latest child progress.
+     */
     /*default*/ class GroupStatusUpdater {
+        private static final long PROGRESS_SCALE = 1000000000L;
         private final JobStatusUpdater statusUpdater;
-        private double[] completionRatios = new double[jobs.length];
+        private final AtomicLongArray progresses = 
+                new AtomicLongArray(jobs.length);
+        private final double[] weights = new double[jobs.length];
+        private final AtomicLong progressTotal = new AtomicLong();
+        private final AtomicInteger completedCount = new AtomicInteger();
+        private final AtomicInteger pendingPublish = new AtomicInteger();
+        private final AtomicBoolean publishing = new AtomicBoolean();
         public GroupStatusUpdater(JobStatusUpdater statusUpdater) {
             super();
             this.statusUpdater = statusUpdater;
+            double totalWeight = 0;
+            for (int i = 0; i < jobs.length; i++) {
+                weights[i] = getWeight(jobs[i]);
+                totalWeight += weights[i];
+            }
+            for (int i = 0; i < jobs.length; i++) {
+                if (totalWeight > 0) {
+                    weights[i] = weights[i] * jobs.length / totalWeight;
+                } else {
+                    weights[i] = 1d;
+                }
+            }
         }
-        public synchronized void childStatusChanged(IJobStatus status) {
-            int jobIndex = jobIds.indexOf(status.getJobId());
-            if (jobIndex >= 0) {
-                completionRatios[jobIndex] = status.getProgress();
+        public void childStatusChanged(IJobStatus status) {
+            Integer jobIndex = jobIndexes.get(status.getJobId());
+            if (jobIndex != null) {
+                long progress = Math.round(
+                        status.getProgress() * PROGRESS_SCALE);
+                long previous = progresses.getAndSet(jobIndex, progress);
+                double weight = weights[jobIndex];
+                progressTotal.addAndGet(Math.round(progress * weight) 
+                        - Math.round(previous * weight));
+                boolean completed = progress >= PROGRESS_SCALE;
+                if (completed != previous >= PROGRESS_SCALE) {
+                    completedCount.addAndGet(completed ? 1 : -1);
+                }
             }
-            // Compute average
-            double ratioTotal = 0;
-            int completedCount = 0;
-            for (int i = 0; i < completionRatios.length; i++) {
-                if (completionRatios[i] >= 1.0d) {
-                    completedCount++;
+            publish();
+        }
+        private void publish() {
+            pendingPublish.incrementAndGet();
+            while (pendingPublish.get() != 0
+                    && publishing.compareAndSet(false, true)) {
+                try {
+                    pendingPublish.set(0);
+                    int completed = completedCount.get();
+                    double total = (double) progressTotal.get() 
+                            / PROGRESS_SCALE;
+                    double progress = Math.min(1.0d,
+                            (total / (double) jobs.length));
+                    // Weighted progress may not add up exactly
+                    if (completed == jobs.length) {
+                        progress = 1.0d;
+                    }
+                    statusUpdater.setProgress(progress);
+                    statusUpdater.setNote(completed + " of "
+                            + jobs.length + " jobs completed.");
+                } finally {
+                    publishing.set(false);
                 }
-                ratioTotal += completionRatios[i];
             }
-            statusUpdater.setProgress(Math.min(1.0d,
-                    (ratioTotal / (double) jobs.length)));
-            statusUpdater.setNote(completedCount + " of "
-                    + jobs.length + " jobs completed.");
         }
-        
     }
-    
 }
@@ -0,0 +1,158 @@
+/* Copyright 2026 Norconex Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.norconex.jef4.job.group;
+
+/**
+ * Configuration of adaptive concurrency for an {@link AsyncJobGroup}.
+ * When set, the number of jobs the group runs at once starts at the 
+ * minimum number of threads, and is periodically adjusted between
+ * that minimum and the group maximum number of threads, in an additive
+ * increase, multiplicative decrease (AIMD) manner:
+ * <ul>
+ *   <li>It is decreased by the decrease factor when the system load 
+ *       average per processor exceeds the maximum CPU load, when the 
+ *       ratio of free JVM memory drops below the minimum free memory,
+ *       or when job throughput dropped after the last increase.</li>
+ *   <li>Otherwise, it is increased by one when all allowed jobs are
+ *       running and more are waiting.</li>
+ * </ul>
+ * Adjustments are evaluated at most once per adjustment interval, when
+ * jobs start or end.  The system load average is not available on all
+ * platforms, in which case only memory and throughput are considered.
+ * Since it is averaged over the last minute, it does not reflect a
+ * decrease right away: after decreasing the concurrency because of it,
+ * it is ignored for a CPU cooldown period, during which the concurrency
+ * is not increased while it remains high.
+ * @author agent
+ * @since 4.1.0
+ * @see AsyncJobGroup#getAdaptiveConcurrencyStats()
+ */
+public class AdaptiveConcurrencyConfig {
+
+    /** Default minimum delay between adjustments, in milliseconds. */
+    public static final long DEFAULT_ADJUST_INTERVAL = 1000;
+    /** Default maximum system load average per processor. */
+    public static final double DEFAULT_MAX_CPU_LOAD = 1.0;
+    /** Default minimum ratio of free JVM memory. */
+    public static final double DEFAULT_MIN_FREE_MEMORY = 0.1;
+    /** Default factor applied to the concurrency when decreasing it. */
+    public static final double DEFAULT_DECREASE_FACTOR = 0.5;
+    /** Default throughput drop tolerated after an increase. */
+    public static final double DEFAULT_THROUGHPUT_TOLERANCE = 0.1;
+    /** 
+     * Default delay after a decrease caused by CPU load before CPU load 
+     * can cause another one, in milliseconds (one minute, the period of 
+     * the system load average).
+     */
+    public static final long DEFAULT_CPU_COOLDOWN = 60000;
+
+    private int minThreads = 1;
+    private long adjustInterval = DEFAULT_ADJUST_INTERVAL;
+    private double maxCpuLoad = DEFAULT_MAX_CPU_LOAD;
+    private double minFreeMemory = DEFAULT_MIN_FREE_MEMORY;
+    private double decreaseFactor = DEFAULT_DECREASE_FACTOR;
+    private double throughputTolerance = DEFAULT_THROUGHPUT_TOLERANCE;
+    private long cpuCooldown = DEFAULT_CPU_COOLDOWN;
+
+    public AdaptiveConcurrencyConfig() {
+        super();
+    }
+
+    public int getMinThreads() {
+        return minThreads;
+    }
+    /**
+     * Sets the number of jobs that can always run at once, which is also
+     * the initial concurrency.  Default is one.
+     * @param minThreads minimum number of threads
+     */
+    public void setMinThreads(int minThreads) {
+        this.minThreads = minThreads;
+    }
+
+    public long getAdjustInterval() {
+        return adjustInterval;
+    }
+    /**
+     * Sets the minimum delay between two adjustments, in milliseconds.
+     * Throughput is measured over windows of at least that interval
+     * spanning at least as many completed jobs as are allowed at once.
+     * @param adjustInterval adjustment interval
+     */
+    public void setAdjustInterval(long adjustInterval) {
+        this.adjustInterval = adjustInterval;
+    }
+
+    public double getMaxCpuLoad() {
+        return maxCpuLoad;
+    }
+    /**
+     * Sets the system load average per processor above which the 
+     * concurrency is decreased (e.g., 1.0 for as many runnable processes
+     * as there are processors).
+     * @param maxCpuLoad maximum CPU load
+     */
+    public void setMaxCpuLoad(double maxCpuLoad) {
+        this.maxCpuLoad = maxCpuLoad;
+    }
+
+    public double getMinFreeMemory() {
+        return minFreeMemory;
+    }
+    /**
+     * Sets the ratio of free JVM memory (out of the maximum memory) below
+     * which the concurrency is decreased.
+     * @param minFreeMemory minimum free memory ratio, between 0 and 1
+     */
+    public void setMinFreeMemory(double minFreeMemory) {
+        this.minFreeMemory = minFreeMemory;
+    }
+
+    public double getDecreaseFactor() {
+        return decreaseFactor;
+    }
+    /**
+     * Sets the factor applied to the concurrency when decreasing it.
+     * @param decreaseFactor decrease factor, between 0 and 1
+     */
+    public void setDecreaseFactor(double decreaseFactor) {
+        this.decreaseFactor = decreaseFactor;
+    }
+
+    public double getThroughputTolerance() {
+        return throughputTolerance;
+    }
+    /**
+     * Sets the relative drop of job throughput (jobs completed per second)
+     * tolerated after increasing the concurrency, before decreasing it.
+     * @param throughputTolerance throughput tolerance, between 0 and 1
+     */
+    public void setThroughputTolerance(double throughputTolerance) {
+        this.throughputTolerance = throughputTolerance;
+    }
+
+    public long getCpuCooldown() {
+        return cpuCooldown;
+    }
+    /**
+     * Sets the delay after a decrease caused by CPU load before CPU load
+     * can cause another one, in milliseconds.  It should be at least as
+     * long as the period the system load average is computed over.
+     * @param cpuCooldown CPU cooldown
+     */
+    public void setCpuCooldown(long cpuCooldown) {
+        this.cpuCooldown = cpuCooldown;
+    }
+}
@@ -0,0 +1,225 @@
+/* Copyright 2026 Norconex Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.norconex.jef4.job.group;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.OperatingSystemMXBean;
+
+import org.apache.log4j.LogManager;
+import org.apache.log4j.Logger;
+
+import com.norconex.jef4.job.group.AdaptiveConcurrencyStats.Decision;
+import com.norconex.jef4.metrics.IMetrics;
+import com.norconex.jef4.metrics.MetricNames;
+
+/**
+ * Limits how many jobs run at once, adjusting the limit to system load
+ * and job throughput.
+ * @author agent
+ * @since 4.1.0
+ * @see AdaptiveConcurrencyConfig
+ */
+@SuppressWarnings("nls")
+/*default*/ class AdaptiveConcurrencyLimiter {
+
+    private static final Logger LOG =
+            LogManager.getLogger(AdaptiveConcurrencyLimiter.class);
+
+    private static final OperatingSystemMXBean OS =
+            ManagementFactory.getOperatingSystemMXBean();
+
+    private final AdaptiveConcurrencyConfig config;
+    private final IMetrics metrics;
+    private final int minLimit;
+    private final int maxLimit;
+
+    // Guarded by "this"
+    private int limit;
+    private int running;
+    private int waiting;
+    private long lastAdjust = System.nanoTime();
+    private long windowStart = lastAdjust;
+    private long lastCpuDecrease;
+    private boolean cpuDecreased;
+    private int windowCompleted;
+    private boolean increasedSinceMeasure;
+    private double throughput = -1;
+    private long increaseCount;
+    private long decreaseCount;
+    private Decision lastDecision = Decision.HOLD;
+    private double cpuLoad = -1;
+    private double freeMemory = -1;
+
+    /**
+     * Creates a limiter.
+     * @param config adaptive concurrency configuration
+     * @param maxLimit maximum number of jobs allowed at once
+     * @param metrics metrics the limit is published to 
+     *        (may be <code>null</code>)
+     */
+    public AdaptiveConcurrencyLimiter(AdaptiveConcurrencyConfig config,
+            int maxLimit, IMetrics metrics) {
+        super();
+        this.config = config;
+        this.metrics = metrics;
+        this.maxLimit = Math.max(1, maxLimit);
+        this.minLimit = Math.max(1, Math.min(
+                config.getMinThreads(), this.maxLimit));
+        this.limit = minLimit;
+        if (metrics != null) {
+            AsyncJobGroup.addToGauge(
+                    metrics, MetricNames.GROUP_CONCURRENCY_LIMIT, limit);
+        }
+    }
+
+    public synchronized void acquire() throws InterruptedException {
+        waiting++;
+        try {
+            adjust();
+            while (running >= limit) {
+                // Waits are bounded so the limit gets adjusted even if
+                // no jobs complete.
+                wait(Math.max(1, config.getAdjustInterval()));
+                adjust();
+            }
+        } finally {
+            waiting--;
+        }
+        running++;
+    }
+
+    public synchronized void release() {
+        running--;
+        windowCompleted++;
+        adjust();
+        notifyAll();
+    }
+
+    /**
+     * Withdraws the limit from published metrics, once no more jobs
+     * are run.
+     */
+    public synchronized void close() {
+        if (metrics != null) {
+            AsyncJobGroup.addToGauge(
+                    metrics, MetricNames.GROUP_CONCURRENCY_LIMIT, -limit);
+        }
+    }
+
+    public synchronized AdaptiveConcurrencyStats getStats() {
+        return new AdaptiveConcurrencyStats(limit, minLimit, maxLimit,
+                running, increaseCount, decreaseCount, lastDecision,
+                cpuLoad, freeMemory, throughput);
+    }
+
+    /**
+     * Gets the system load average per processor.
+     * @return CPU load, or a negative value if not available
+     */
+    protected double sampleCpuLoad() {
+        double load = OS.getSystemLoadAverage();
+        if (load < 0) {
+            return -1;
+        }
+        return load / OS.getAvailableProcessors();
+    }
+
+    /**
+     * Gets the ratio of free JVM memory.
+     * @return free memory ratio
+     */
+    protected double sampleFreeMemory() {
+        Runtime runtime = Runtime.getRuntime();
+        long used = runtime.totalMemory() - runtime.freeMemory();
+        return (double) (runtime.maxMemory() - used) / runtime.maxMemory();
+    }
+
+    private void adjust() {
+        long now = System.nanoTime();
+        if (now - lastAdjust < config.getAdjustInterval() * 1000000L) {
+            return;
+        }
+        lastAdjust = now;
+
+        // Throughput is only measured once a window spans at least as many
+        // completed jobs as are allowed at once, so windows with few or no
+        // completions (e.g. long-running jobs) are not mistaken for drops.
+        double previousThroughput = throughput;
+        boolean measured = false;
+        if (windowCompleted >= limit) {
+            throughput = windowCompleted
+                    / (Math.max(1, now - windowStart) / 1e9d);
+            windowStart = now;
+            windowCompleted = 0;
+            measured = true;
+        }
+        cpuLoad = sampleCpuLoad();
+        freeMemory = sampleFreeMemory();
+
+        // The load average lags behind, so once decreased for it, we wait
+        // for it to reflect the decrease before acting on it again.
+        boolean cpuHigh = cpuLoad >= 0 && cpuLoad > config.getMaxCpuLoad();
+        boolean cpuCooling = cpuDecreased && now - lastCpuDecrease
+                < config.getCpuCooldown() * 1000000L;
+        Decision decision = Decision.HOLD;
+        if (cpuHigh && !cpuCooling) {
+            decision = Decision.DECREASE_CPU;
+        } else if (freeMemory < config.getMinFreeMemory()) {
+            decision = Decision.DECREASE_MEMORY;
+        } else if (measured && increasedSinceMeasure
+                && previousThroughput > 0 && throughput 
+                < previousThroughput * (1 - config.getThroughputTolerance())) {
+            decision = Decision.DECREASE_THROUGHPUT;
+        } else if (!cpuHigh 
+                && running >= limit && waiting > 0 && limit < maxLimit) {
+            decision = Decision.INCREASE;
+        }
+        if (measured) {
+            increasedSinceMeasure = false;
+        }
+        if (decision == Decision.INCREASE) {
+            increasedSinceMeasure = true;
+        }
+
+        int previousLimit = limit;
+        if (decision == Decision.INCREASE) {
+            limit++;
+            increaseCount++;
+        } else if (decision != Decision.HOLD) {
+            limit = Math.max(minLimit, 
+                    (int) (limit * config.getDecreaseFactor()));
+            if (limit != previousLimit) {
+                decreaseCount++;
+            } else {
+                decision = Decision.HOLD;
+            }
+        }
+        if (decision == Decision.DECREASE_CPU) {
+            lastCpuDecrease = now;
+            cpuDecreased = true;
+        }
+        lastDecision = decision;
+        if (limit != previousLimit && metrics != null) {
+            AsyncJobGroup.addToGauge(metrics, 
+                    MetricNames.GROUP_CONCURRENCY_LIMIT, limit - previousLimit);
+            metrics.incrementCounter(
+                    MetricNames.GROUP_CONCURRENCY_DECISIONS + decision, 1);
+        }
+        if (limit != previousLimit && LOG.isDebugEnabled()) {
+            LOG.debug("Concurrency " + decision + " from " + previousLimit
+                    + " to " + limit + ": " + getStats());
+        }
+    }
+}
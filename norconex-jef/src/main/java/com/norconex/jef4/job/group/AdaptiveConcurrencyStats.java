@@ -0,0 +1,133 @@
+/* Copyright 2026 Norconex Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.norconex.jef4.job.group;
+
+/**
+ * Adaptive concurrency decisions of an {@link AsyncJobGroup}, taken at
+ * a given point in time.  System metrics are the ones measured for the 
+ * last decision.
+ * @author agent
+ * @since 4.1.0
+ * @see AdaptiveConcurrencyConfig
+ */
+public class AdaptiveConcurrencyStats {
+
+    /**
+     * Outcome of a concurrency adjustment.
+     */
+    public enum Decision {
+        /** Concurrency unchanged. */
+        HOLD,
+        /** Concurrency increased by one. */
+        INCREASE,
+        /** Concurrency decreased because of high CPU load. */
+        DECREASE_CPU,
+        /** Concurrency decreased because of low free memory. */
+        DECREASE_MEMORY,
+        /** Concurrency decreased because job throughput dropped. */
+        DECREASE_THROUGHPUT
+    }
+
+    private final int limit;
+    private final int minLimit;
+    private final int maxLimit;
+    private final int running;
+    private final long increaseCount;
+    private final long decreaseCount;
+    private final Decision lastDecision;
+    private final double cpuLoad;
+    private final double freeMemory;
+    private final double throughput;
+
+    public AdaptiveConcurrencyStats(int limit, int minLimit, int maxLimit,
+            int running, long increaseCount, long decreaseCount,
+            Decision lastDecision, double cpuLoad, double freeMemory,
+            double throughput) {
+        super();
+        this.limit = limit;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.running = running;
+        this.increaseCount = increaseCount;
+        this.decreaseCount = decreaseCount;
+        this.lastDecision = lastDecision;
+        this.cpuLoad = cpuLoad;
+        this.freeMemory = freeMemory;
+        this.throughput = throughput;
+    }
+
+    /**
+     * Gets the number of jobs currently allowed to run at once.
+     * @return concurrency limit
+     */
+    public int getLimit() {
+        return limit;
+    }
+    public int getMinLimit() {
+        return minLimit;
+    }
+    public int getMaxLimit() {
+        return maxLimit;
+    }
+    /**
+     * Gets the number of jobs running.
+     * @return running jobs
+     */
+    public int getRunning() {
+        return running;
+    }
+    public long getIncreaseCount() {
+        return increaseCount;
+    }
+    public long getDecreaseCount() {
+        return decreaseCount;
+    }
+    public Decision getLastDecision() {
+        return lastDecision;
+    }
+    /**
+     * Gets the system load average per processor.
+     * @return CPU load, or a negative value if not available
+     */
+    public double getCpuLoad() {
+        return cpuLoad;
+    }
+    /**
+     * Gets the ratio of free JVM memory.
+     * @return free memory ratio
+     */
+    public double getFreeMemory() {
+        return freeMemory;
+    }
+    /**
+     * Gets the number of jobs completed per second.
+     * @return job throughput
+     */
+    public double getThroughput() {
+        return throughput;
+    }
+
+    @Override
+    public String toString() {
+        return "AdaptiveConcurrencyStats [limit=" + limit
+                + ", minLimit=" + minLimit + ", maxLimit=" + maxLimit
+                + ", running=" + running
+                + ", increaseCount=" + increaseCount
+                + ", decreaseCount=" + decreaseCount
+                + ", lastDecision=" + lastDecision
+                + ", cpuLoad=" + cpuLoad + ", freeMemory=" + freeMemory
+                + ", throughput=" + throughput + "]";
+    }
+}
@@ -15,18 +15,37 @@
 package com.norconex.jef4.job.group;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.apache.log4j.LogManager;
 import org.apache.log4j.Logger;
 
 import com.norconex.jef4.JEFException;
 import com.norconex.jef4.job.IJob;
+import com.norconex.jef4.job.IWeightedJob;
 import com.norconex.jef4.job.JobException;
+import com.norconex.jef4.metrics.IMetrics;
+import com.norconex.jef4.metrics.MetricNames;
+import com.norconex.jef4.status.IJobStatus;
 import com.norconex.jef4.suite.JobSuite;
 
 /**
@@ -37,6 +56,38 @@ import com.norconex.jef4.suite.JobSuite;
  * done executing.  An exception in one job will not stop the other jobs
  * in the group from running.  On the other hand, one or more exception will
  * result in this group to fail.
+ * <br><br>
+ * Since 4.1.0, when a job group pool is configured (see
+ * {@link com.norconex.jef4.suite.JobSuiteConfig#setJobGroupPool(
+ * ForkJoinPool)}), jobs are run by that pool instead of threads created
+ * for each group execution.  A group nested in another asynchronous group
+ * then runs its jobs on the same pool, with the thread of the parent
+ * group running jobs as well instead of only waiting for them.
+ * The number of threads used remains bounded by the pool, regardless of
+ * how deep groups are nested.
+ * <br><br>
+ * Otherwise, when a thread factory is configured (see
+ * {@link com.norconex.jef4.suite.JobSuiteConfig#setThreadFactory(
+ * java.util.concurrent.ThreadFactory)}), each job is run by a new thread
+ * from that factory, with no more than the maximum number of threads
+ * running at once.
+ * <br><br>
+ * Since 4.1.0, a maximum number of failed jobs can be set (see
+ * {@link #setMaxFailures(int)}), after which the group stops its running
+ * jobs and does not start the remaining ones.  By default, all jobs
+ * are run regardless of failures.
+ * <br><br>
+ * Since 4.1.0, jobs implementing {@link IWeightedJob} are started 
+ * by decreasing priority, then by decreasing weight, so the costliest 
+ * jobs do not start last and delay the group completion.  
+ * Other jobs are started in the order given, after jobs of higher
+ * priority or weight.
+ * <br><br>
+ * Since 4.1.0, the number of jobs running at once can also adapt to
+ * system load and job throughput, up to the maximum number of threads
+ * (see {@link #setAdaptiveConcurrency(AdaptiveConcurrencyConfig)}).
+ * Each job then runs on its own thread, whether a job group pool is 
+ * configured or not.
  *
  * @author Pascal Essiembre
  */
@@ -47,7 +98,14 @@ public class AsyncJobGroup extends AbstractJobGroup {
     private static final Logger LOG =
             LogManager.getLogger(AsyncJobGroup.class);
 
+    // Gauges summed over async groups, per metrics they are recorded to
+    private static final Map<IMetrics, Map<String, AtomicInteger>> GAUGES =
+            new WeakHashMap<>();
+
     private final int maxThread;
+    private int maxFailures;
+    private AdaptiveConcurrencyConfig adaptiveConcurrency;
+    private volatile AdaptiveConcurrencyLimiter limiter;
     
     /**
      * Constructor.
@@ -71,19 +129,115 @@ public class AsyncJobGroup extends AbstractJobGroup {
         this.maxThread = maxThreads;
     }
 
+    /**
+     * Gets the number of failed jobs after which the remaining jobs
+     * of this group are cancelled.
+     * @return maximum number of failures, zero or less for no maximum
+     * @since 4.1.0
+     */
+    public int getMaxFailures() {
+        return maxFailures;
+    }
+    /**
+     * Sets the number of failed jobs after which the remaining jobs of
+     * this group are cancelled: running jobs are requested to stop, and
+     * jobs not yet started are not run.  Stopped and cancelled jobs are
+     * run again when the suite is resumed.  Use <code>1</code> to fail as
+     * soon as a job fails.  Default is zero (all jobs are run, whether
+     * other jobs failed or not).
+     * @param maxFailures maximum number of failures, zero or less for
+     *        no maximum
+     * @since 4.1.0
+     */
+    public void setMaxFailures(int maxFailures) {
+        this.maxFailures = maxFailures;
+    }
+
+    /**
+     * Gets the adaptive concurrency configuration.
+     * @return adaptive concurrency configuration, or <code>null</code>
+     *         if the number of jobs running at once is fixed
+     * @since 4.1.0
+     */
+    public AdaptiveConcurrencyConfig getAdaptiveConcurrency() {
+        return adaptiveConcurrency;
+    }
+    /**
+     * Sets the adaptive concurrency configuration, making the number of
+     * jobs running at once vary between a minimum and the maximum number
+     * of threads of this group.  Default is <code>null</code> (the 
+     * maximum number of threads is always used).
+     * @param adaptiveConcurrency adaptive concurrency configuration
+     * @since 4.1.0
+     */
+    public void setAdaptiveConcurrency(
+            AdaptiveConcurrencyConfig adaptiveConcurrency) {
+        this.adaptiveConcurrency = adaptiveConcurrency;
+    }
+    /**
+     * Gets adaptive concurrency decisions of the current or last execution
+     * of this group.
+     * @return adaptive concurrency statistics, or <code>null</code> if
+     *         adaptive concurrency is not used or the group was not 
+     *         executed
+     * @since 4.1.0
+     */
+    public AdaptiveConcurrencyStats getAdaptiveConcurrencyStats() {
+        AdaptiveConcurrencyLimiter currentLimiter = limiter;
+        if (currentLimiter == null) {
+            return null;
+        }
+        return currentLimiter.getStats();
+    }
+
     @Override
     public void executeGroup(final JobSuite suite) {
-        final Collection<IJob> failedJobs =
-                Collections.synchronizedCollection(new ArrayList<IJob>());
         IJob[] jobs = getJobs();
+        GroupExecution execution = new GroupExecution(suite, jobs);
         int realMaxThread = Math.min(maxThread, jobs.length);
+        ForkJoinPool forkJoinPool = suite.getConfig().getJobGroupPool();
+        if (adaptiveConcurrency != null) {
+            executeAdaptively(realMaxThread, execution);
+        } else if (forkJoinPool != null) {
+            executeOnPool(forkJoinPool, realMaxThread, execution);
+        } else if (suite.getConfig().getThreadFactory() != null) {
+            executeOnNewThreads(realMaxThread, execution);
+        } else {
+            executeOnThreads(realMaxThread, execution);
+        }
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("All threads finished for async group\"" 
+                    + getId() + "\".");
+        }
+
+        Collection<IJob> failedJobs = execution.failedJobs;
+        if (!failedJobs.isEmpty()) {
+            String notRun = "";
+            if (execution.notRunCount.get() > 0) {
+                notRun = " (" + execution.notRunCount.get() 
+                        + " jobs cancelled)";
+            }
+            throw new JobException(
+                    failedJobs.size() + " out of " + jobs.length
+                  + " jobs failed in async group \"" + getId() + "\""
+                  + notRun);
+        }
+    }
+
+    private void executeOnThreads(
+            int realMaxThread, final GroupExecution execution) {
+        IJob[] jobs = getScheduledJobs();
         final CountDownLatch latch = new CountDownLatch(jobs.length);
         ExecutorService pool = Executors.newFixedThreadPool(realMaxThread);
         for (final IJob job : jobs) {
             pool.execute(new Runnable() {
                 @Override
                 public void run() {
-                    runJob(job, suite, failedJobs, latch);
+                    try {
+                        runJob(job, execution);
+                    } finally {
+                        latch.countDown();
+                    }
                 }
             });
         }
@@ -94,20 +248,146 @@ public class AsyncJobGroup extends AbstractJobGroup {
         } catch (InterruptedException e) {
              throw new JEFException(e);
         }
-        if (LOG.isDebugEnabled()) {
-            LOG.debug("All threads finished for async group\"" 
-                    + getId() + "\".");
+    }
+
+    // One thread per job, with permits limiting how many run at once.
+    private void executeOnNewThreads(
+            int realMaxThread, final GroupExecution execution) {
+        IJob[] jobs = getScheduledJobs();
+        final CountDownLatch latch = new CountDownLatch(jobs.length);
+        final Semaphore permits = new Semaphore(realMaxThread);
+        try {
+            for (final IJob job : jobs) {
+                permits.acquire();
+                execution.suite.newThread(new Runnable() {
+                    @Override
+                    public void run() {
+                        try {
+                            runJob(job, execution);
+                        } finally {
+                            permits.release();
+                            latch.countDown();
+                        }
+                    }
+                }, job.getId()).start();
+            }
+            latch.await();
+        } catch (InterruptedException e) {
+             throw new JEFException(e);
         }
+    }
 
-        if (!failedJobs.isEmpty()) {
-            throw new JobException(
-                    failedJobs.size() + " out of " + jobs.length
-                  + " jobs failed in async group \"" + getId() + "\"");
+    // One thread per job, with an adaptive limit of how many run at once.
+    private void executeAdaptively(
+            int realMaxThread, final GroupExecution execution) {
+        IJob[] jobs = getScheduledJobs();
+        final CountDownLatch latch = new CountDownLatch(jobs.length);
+        final AdaptiveConcurrencyLimiter currentLimiter = 
+                new AdaptiveConcurrencyLimiter(adaptiveConcurrency,
+                        realMaxThread, execution.suite.getMetrics());
+        limiter = currentLimiter;
+        try {
+            for (final IJob job : jobs) {
+                currentLimiter.acquire();
+                execution.suite.newThread(new Runnable() {
+                    @Override
+                    public void run() {
+                        try {
+                            runJob(job, execution);
+                        } finally {
+                            currentLimiter.release();
+                            latch.countDown();
+                        }
+                    }
+                }, job.getId()).start();
+            }
+            latch.await();
+        } catch (InterruptedException e) {
+             throw new JEFException(e);
+        } finally {
+            currentLimiter.close();
+        }
+    }
+
+    // Each "lane" runs jobs one after the other, taking them from a queue
+    // shared by all lanes, so no more than "realMaxThread" jobs of
+    // this group run at once.
+    private void executeOnPool(ForkJoinPool forkJoinPool, int realMaxThread,
+            final GroupExecution execution) {
+        final Queue<IJob> queue = 
+                new ConcurrentLinkedQueue<>(Arrays.asList(getScheduledJobs()));
+        final List<RecursiveAction> lanes = new ArrayList<>(realMaxThread);
+        for (int i = 0; i < realMaxThread; i++) {
+            lanes.add(new RecursiveAction() {
+                private static final long serialVersionUID = 1L;
+                @Override
+                protected void compute() {
+                    IJob job;
+                    while ((job = queue.poll()) != null) {
+                        runJob(job, execution);
+                    }
+                }
+            });
+        }
+        ForkJoinWorkerThread worker = null;
+        if (Thread.currentThread() instanceof ForkJoinWorkerThread) {
+            worker = (ForkJoinWorkerThread) Thread.currentThread();
+        }
+        if (worker != null && worker.getPool() == forkJoinPool) {
+            // Nested group: this thread helps running lanes
+            ForkJoinTask.invokeAll(lanes);
+        } else {
+            forkJoinPool.invoke(new RecursiveAction() {
+                private static final long serialVersionUID = 1L;
+                @Override
+                protected void compute() {
+                    invokeAll(lanes);
+                }
+            });
         }
     }
     
-    private void runJob(IJob job, JobSuite suite, Collection<IJob> failedJobs,
-            CountDownLatch latch) {
+    // Jobs by decreasing priority, then weight (sort is stable).
+    private IJob[] getScheduledJobs() {
+        IJob[] jobs = getJobs();
+        Arrays.sort(jobs, new Comparator<IJob>() {
+            @Override
+            public int compare(IJob job1, IJob job2) {
+                int result = Integer.compare(
+                        getPriority(job2), getPriority(job1));
+                if (result == 0) {
+                    result = Double.compare(
+                            getWeight(job2), getWeight(job1));
+                }
+                return result;
+            }
+        });
+        return jobs;
+    }
+
+    private void runJob(IJob job, GroupExecution execution) {
+        // A job is either admitted to run, or cancelled before it runs
+        // (never both), so only jobs actually run get stopped on
+        // cancellation.
+        AtomicInteger jobState = execution.jobStates.get(job);
+        if (execution.isCancelled()
+                || !jobState.compareAndSet(JOB_QUEUED, JOB_RUNNING)) {
+            jobState.set(JOB_CANCELLED);
+            LOG.info(job.getId() + " not run: async group \"" + getId()
+                    + "\" was cancelled or stopped.");
+            execution.notRunCount.incrementAndGet();
+            return;
+        }
+        IMetrics metrics = execution.suite.getMetrics();
+        if (metrics != null) {
+            metrics.recordDuration(MetricNames.GROUP_QUEUE_WAIT_TIME,
+                    System.nanoTime() - execution.startNanos);
+            addToGauge(metrics, MetricNames.GROUP_ACTIVE_THREADS, 1);
+        }
+        // Threads may be running other jobs (e.g. a parent group), so we
+        // restore their name and current job when done.
+        String threadName = Thread.currentThread().getName();
+        String currentJobId = JobSuite.getCurrentJobId();
         Thread.currentThread().setName(job.getId());
         JobSuite.setCurrentJobId(job.getId());
 
@@ -116,22 +396,96 @@ public class AsyncJobGroup extends AbstractJobGroup {
                 LOG.debug("Thread from " + AsyncJobGroup.this.getId()
                     + " started and about to run: " + job.getId());
             }
-            if (!suite.runJob(job)) {
-                synchronized (failedJobs) {
-                    LOG.error(job.getId() + " failed.");
-                    failedJobs.add(job);
-                }
+            boolean success = execution.suite.runJob(job);
+            if (!success) {
+                LOG.error(job.getId() + " failed.");
+                execution.failed(job);
             } else if (LOG.isDebugEnabled()) {
                 LOG.debug(job.getId() + " succeeded.");
             }
-            JobSuite.setCurrentJobId(AsyncJobGroup.this.getId());
             if (LOG.isDebugEnabled()) {
                 LOG.debug("Thread from " + AsyncJobGroup.this.getId()
                     + " finished to run: " + job.getId());
             }
         } finally {
-            latch.countDown();
+            jobState.set(JOB_DONE);
+            if (metrics != null) {
+                addToGauge(metrics, MetricNames.GROUP_ACTIVE_THREADS, -1);
+            }
+            Thread.currentThread().setName(threadName);
+            JobSuite.setCurrentJobId(currentJobId);
+        }
+    }
+
+    // Gauges cover all groups recording to the same metrics.  They are
+    // set holding the lock so values are never published out of order.
+    /*default*/ static void addToGauge(
+            IMetrics metrics, String name, int delta) {
+        synchronized (GAUGES) {
+            Map<String, AtomicInteger> gauges = GAUGES.get(metrics);
+            if (gauges == null) {
+                gauges = new HashMap<>();
+                GAUGES.put(metrics, gauges);
+            }
+            AtomicInteger gauge = gauges.get(name);
+            if (gauge == null) {
+                gauge = new AtomicInteger();
+                gauges.put(name, gauge);
+            }
+            metrics.setGauge(name, gauge.addAndGet(delta));
+        }
+    }
+
+    // Job states within a group execution
+    private static final int JOB_QUEUED = 0;
+    private static final int JOB_RUNNING = 1;
+    private static final int JOB_CANCELLED = 2;
+    private static final int JOB_DONE = 3;
+
+    // State of one execution of this group.
+    private class GroupExecution {
+        private final JobSuite suite;
+        private final long startNanos = System.nanoTime();
+        private final Collection<IJob> failedJobs =
+                Collections.synchronizedCollection(new ArrayList<IJob>());
+        // Only read once created
+        private final Map<IJob, AtomicInteger> jobStates = new HashMap<>();
+        private final AtomicInteger notRunCount = new AtomicInteger();
+        private final AtomicBoolean cancelled = new AtomicBoolean();
+        public GroupExecution(JobSuite suite, IJob[] jobs) {
+            super();
+            this.suite = suite;
+            for (IJob job : jobs) {
+                jobStates.put(job, new AtomicInteger(JOB_QUEUED));
+            }
+        }
+        // Cancelled because of failures, or because this group was
+        // requested to stop.
+        private boolean isCancelled() {
+            if (cancelled.get()) {
+                return true;
+            }
+            IJobStatus status = suite.getJobStatus(getId());
+            return status != null && status.isStopping();
+        }
+        private void failed(IJob job) {
+            int failures;
+            synchronized (failedJobs) {
+                failedJobs.add(job);
+                failures = failedJobs.size();
+            }
+            if (maxFailures > 0 && failures >= maxFailures
+                    && cancelled.compareAndSet(false, true)) {
+                LOG.error(failures + " jobs failed in async group \""
+                        + getId() + "\", cancelling its other jobs.");
+                for (Map.Entry<IJob, AtomicInteger> en : jobStates.entrySet()) {
+                    AtomicInteger jobState = en.getValue();
+                    if (!jobState.compareAndSet(JOB_QUEUED, JOB_CANCELLED)
+                            && jobState.get() == JOB_RUNNING) {
+                        stopJob(suite, en.getKey(), false);
+                    }
+                }
+            }
         }
-        
     }
 }
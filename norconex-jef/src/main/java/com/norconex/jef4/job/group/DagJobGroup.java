@@ -0,0 +1,391 @@
+/* Copyright 2026 Norconex Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.norconex.jef4.job.group;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+
+import org.apache.log4j.LogManager;
+import org.apache.log4j.Logger;
+
+import com.norconex.jef4.JEFException;
+import com.norconex.jef4.job.IJob;
+import com.norconex.jef4.job.JobException;
+import com.norconex.jef4.status.IJobStatus;
+import com.norconex.jef4.status.JobState;
+import com.norconex.jef4.suite.JobSuite;
+
+/**
+ * Job responsible for running a group of jobs according to their
+ * dependencies.  A job is started as soon as all jobs it depends on
+ * are completed, with no more than the maximum number of threads running
+ * jobs at once.  Jobs without dependencies between them run concurrently.
+ * When more jobs are ready to run than there are threads available,
+ * jobs on the longest path of remaining jobs are started first.  
+ * Path lengths are estimated from how long jobs took to complete in 
+ * the previous execution of the suite (see 
+ * {@link JobSuite#getPreviousDuration(String)}).  Jobs with no previous
+ * duration are estimated to take the average previous duration of the
+ * other jobs.
+ * <br><br>
+ * The progress of this group reflects the average progress of all its jobs.
+ * This job group is considered completed and will only return when all its
+ * jobs are done executing.  An exception in one job will not stop
+ * jobs not depending on it from running, but jobs depending on it,
+ * directly or not, will not run.  One or more exception will
+ * result in this group to fail.  When resuming, jobs already completed
+ * are skipped and jobs depending on them can run right away.
+ * <br><br>
+ * Once this group is requested to stop, no more jobs are started and
+ * it returns when its running jobs have returned.  Jobs depending on a
+ * stopped job do not run either.
+ *
+ * @author agent
+ * @since 4.1.0
+ */
+@SuppressWarnings("nls")
+public class DagJobGroup extends AbstractJobGroup {
+
+    /** Logger. */
+    private static final Logger LOG =
+            LogManager.getLogger(DagJobGroup.class);
+    
+    private final int maxThread;
+    private final Map<String, IJob> jobsById = new HashMap<>();
+    /** Job ids of jobs each job depends on. */
+    private final Map<String, Set<String>> dependencies = new HashMap<>();
+    
+    /**
+     * Creates a group running jobs according to their dependencies,
+     * using as many threads as there are jobs if necessary.
+     * @param id job unique identifier
+     * @param jobs jobs to be run by the group
+     */
+    public DagJobGroup(String id, IJob... jobs) {
+        this(id, jobs.length, jobs);
+    }
+    /**
+     * Creates a group running jobs according to their dependencies.
+     * @param id job unique identifier
+     * @param maxThread maximum number of jobs to run at once
+     * @param jobs jobs to be run by the group
+     */
+    public DagJobGroup(String id, int maxThread, IJob... jobs) {
+        super(id, jobs);
+        this.maxThread = Math.max(1, maxThread);
+        for (IJob job : getJobs()) {
+            jobsById.put(job.getId(), job);
+            dependencies.put(job.getId(), new LinkedHashSet<String>());
+        }
+    }
+
+    /**
+     * Makes a job run only once other jobs of this group are completed.
+     * @param jobId identifier of the job depending on other jobs
+     * @param dependencyIds identifiers of jobs that must complete first
+     * @throws IllegalArgumentException if a job is not part of this group
+     *         or if a dependency would introduce a cycle
+     */
+    public synchronized void addDependency(
+            String jobId, String... dependencyIds) {
+        ensureJobExists(jobId);
+        for (String dependencyId : dependencyIds) {
+            ensureJobExists(dependencyId);
+            if (dependsOn(dependencyId, jobId, new HashSet<String>())) {
+                throw new IllegalArgumentException("\"" + jobId
+                        + "\" cannot depend on \"" + dependencyId
+                        + "\": it would introduce a dependency cycle.");
+            }
+            dependencies.get(jobId).add(dependencyId);
+        }
+    }
+    
+    /**
+     * Gets the identifiers of jobs a job directly depends on.
+     * @param jobId job identifier
+     * @return job identifiers (never <code>null</code>)
+     */
+    public synchronized Set<String> getDependencies(String jobId) {
+        ensureJobExists(jobId);
+        return Collections.unmodifiableSet(
+                new LinkedHashSet<>(dependencies.get(jobId)));
+    }
+
+    @Override
+    public void executeGroup(final JobSuite suite) {
+        Map<String, Set<String>> prerequisites = new HashMap<>();
+        Map<String, List<String>> dependents = new HashMap<>();
+        synchronized (this) {
+            for (String jobId : jobsById.keySet()) {
+                dependents.put(jobId, new ArrayList<String>());
+            }
+            for (Map.Entry<String, Set<String>> entry
+                    : dependencies.entrySet()) {
+                prerequisites.put(entry.getKey(),
+                        new HashSet<String>(entry.getValue()));
+                for (String dependencyId : entry.getValue()) {
+                    dependents.get(dependencyId).add(entry.getKey());
+                }
+            }
+        }
+
+        final Map<String, Long> ranks = computeRanks(suite, dependents);
+        final Map<String, Integer> positions = new HashMap<>();
+        for (IJob job : getJobs()) {
+            positions.put(job.getId(), positions.size());
+        }
+        PriorityQueue<String> ready = new PriorityQueue<>(
+                Math.max(1, jobsById.size()), new Comparator<String>() {
+            @Override
+            public int compare(String id1, String id2) {
+                int result = ranks.get(id2).compareTo(ranks.get(id1));
+                if (result == 0) {
+                    result = positions.get(id1).compareTo(
+                            positions.get(id2));
+                }
+                return result;
+            }
+        });
+        for (Map.Entry<String, Set<String>> entry
+                : prerequisites.entrySet()) {
+            if (entry.getValue().isEmpty()) {
+                ready.add(entry.getKey());
+            }
+        }
+
+        final BlockingQueue<JobResult> results = new LinkedBlockingQueue<>();
+        List<String> failedJobs = new ArrayList<>();
+        Set<String> skippedJobs = new HashSet<>();
+        Set<String> runningJobs = new HashSet<>();
+        int remaining = jobsById.size();
+        boolean stopping = false;
+        try {
+            while (remaining > 0) {
+                while (!stopping && runningJobs.size() < maxThread 
+                        && !ready.isEmpty()) {
+                    if (isStopping(suite)) {
+                        stopping = true;
+                    } else {
+                        String jobId = ready.poll();
+                        runningJobs.add(jobId);
+                        startJob(jobsById.get(jobId), suite, results);
+                    }
+                }
+                if (runningJobs.isEmpty()) {
+                    // Stopping: jobs left were not started
+                    LOG.info(remaining + " jobs not run: DAG group \"" 
+                            + getId() + "\" was stopped.");
+                    break;
+                }
+                JobResult result = results.take();
+                runningJobs.remove(result.jobId);
+                remaining--;
+                if (result.stopped) {
+                    LOG.info(result.jobId + " was stopped.");
+                    remaining -= skipDependents(
+                            result.jobId, dependents, skippedJobs);
+                } else if (result.success) {
+                    if (LOG.isDebugEnabled()) {
+                        LOG.debug(result.jobId + " succeeded.");
+                    }
+                    for (String dependentId : dependents.get(result.jobId)) {
+                        Set<String> waitingFor = 
+                                prerequisites.get(dependentId);
+                        waitingFor.remove(result.jobId);
+                        if (waitingFor.isEmpty()) {
+                            ready.add(dependentId);
+                        }
+                    }
+                } else {
+                    LOG.error(result.jobId + " failed.");
+                    failedJobs.add(result.jobId);
+                    remaining -= skipDependents(
+                            result.jobId, dependents, skippedJobs);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            stopRunningJobs(suite, runningJobs, results);
+            throw new JEFException(e);
+        }
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("All jobs finished for DAG group \"" + getId() + "\".");
+        }
+        if (!failedJobs.isEmpty()) {
+            throw new JobException(failedJobs.size() + " out of " 
+                    + jobsById.size() + " jobs failed in DAG group \""
+                    + getId() + "\" (" + skippedJobs.size()
+                    + " jobs not run because of unsuccessful dependencies)");
+        }
+    }
+
+    private boolean isStopping(JobSuite suite) {
+        IJobStatus status = suite.getJobStatus(getId());
+        return status != null && status.isStopping();
+    }
+
+    // Stops jobs still running and waits for them to return, so none
+    // keeps running unnoticed once this group returns.
+    private void stopRunningJobs(JobSuite suite, Set<String> runningJobs,
+            BlockingQueue<JobResult> results) {
+        LOG.warn("DAG group \"" + getId() + "\" was interrupted, stopping "
+                + runningJobs.size() + " running jobs.");
+        for (String jobId : runningJobs) {
+            stopJob(suite, jobsById.get(jobId), false);
+        }
+        boolean interrupted = false;
+        while (!runningJobs.isEmpty()) {
+            try {
+                runningJobs.remove(results.take().jobId);
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void startJob(final IJob job, final JobSuite suite,
+            final BlockingQueue<JobResult> results) {
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("DAG group \"" + getId() + "\" about to run: "
+                    + job.getId());
+        }
+        suite.newThread(new Runnable() {
+            @Override
+            public void run() {
+                boolean success = false;
+                boolean stopped = false;
+                try {
+                    success = suite.runJob(job);
+                    IJobStatus status = suite.getJobStatus(job);
+                    stopped = status != null 
+                            && status.getState() == JobState.STOPPED;
+                } finally {
+                    results.add(new JobResult(job.getId(), success, stopped));
+                }
+            }
+        }, job.getId()).start();
+    }
+
+    // Marks as skipped all jobs depending on a failed job, returning how
+    // many were not already skipped.
+    private int skipDependents(String jobId,
+            Map<String, List<String>> dependents, Set<String> skippedJobs) {
+        int count = 0;
+        for (String dependentId : dependents.get(jobId)) {
+            if (skippedJobs.add(dependentId)) {
+                LOG.warn(dependentId + " will not run: it depends on "
+                        + "unsuccessful job " + jobId + ".");
+                count += 1 + skipDependents(
+                        dependentId, dependents, skippedJobs);
+            }
+        }
+        return count;
+    }
+    
+    // The rank of a job is its estimated duration plus the highest rank
+    // of jobs depending on it: the length of the longest path of jobs
+    // left to run once it starts.
+    private Map<String, Long> computeRanks(
+            JobSuite suite, Map<String, List<String>> dependents) {
+        Map<String, Long> durations = new HashMap<>();
+        long knownTotal = 0;
+        int knownCount = 0;
+        for (String jobId : jobsById.keySet()) {
+            long duration = suite.getPreviousDuration(jobId);
+            if (duration >= 0) {
+                durations.put(jobId, duration);
+                knownTotal += duration;
+                knownCount++;
+            }
+        }
+        long defaultDuration = 1;
+        if (knownCount > 0) {
+            defaultDuration = Math.max(1, knownTotal / knownCount);
+        }
+        for (String jobId : jobsById.keySet()) {
+            if (!durations.containsKey(jobId)) {
+                durations.put(jobId, defaultDuration);
+            }
+        }
+        Map<String, Long> ranks = new HashMap<>();
+        for (String jobId : jobsById.keySet()) {
+            computeRank(jobId, durations, dependents, ranks);
+        }
+        return ranks;
+    }
+    private long computeRank(String jobId, Map<String, Long> durations,
+            Map<String, List<String>> dependents, Map<String, Long> ranks) {
+        Long rank = ranks.get(jobId);
+        if (rank == null) {
+            long maxDependentRank = 0;
+            for (String dependentId : dependents.get(jobId)) {
+                maxDependentRank = Math.max(maxDependentRank,
+                        computeRank(dependentId, durations, dependents, ranks));
+            }
+            rank = durations.get(jobId) + maxDependentRank;
+            ranks.put(jobId, rank);
+        }
+        return rank;
+    }
+
+    // Whether a job depends on another one, directly or not.
+    private boolean dependsOn(
+            String jobId, String dependencyId, Set<String> visited) {
+        if (jobId.equals(dependencyId)) {
+            return true;
+        }
+        if (!visited.add(jobId)) {
+            return false;
+        }
+        for (String id : dependencies.get(jobId)) {
+            if (dependsOn(id, dependencyId, visited)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void ensureJobExists(String jobId) {
+        if (!jobsById.containsKey(jobId)) {
+            throw new IllegalArgumentException("Job \"" + jobId 
+                    + "\" is not part of DAG group \"" + getId() + "\".");
+        }
+    }
+    
+    private static class JobResult {
+        private final String jobId;
+        private final boolean success;
+        private final boolean stopped;
+        public JobResult(String jobId, boolean success, boolean stopped) {
+            super();
+            this.jobId = jobId;
+            this.success = success;
+            this.stopped = stopped;
+        }
+    }
+}
@@ -17,6 +17,8 @@ package com.norconex.jef4.log;
 import org.apache.log4j.Layout;
 import org.apache.log4j.spi.LoggingEvent;
 
+import com.norconex.jef4.metrics.IMetrics;
+import com.norconex.jef4.metrics.MetricNames;
 import com.norconex.jef4.suite.JobSuite;
 
 /**
@@ -31,14 +33,27 @@ public class ThreadSafeLayout extends Layout {
 
     /** Log4j log layout. */
     private final Layout layout;
+    private final IMetrics metrics;
     
     /**
      * Constructor.
      * @param layout decorated layout
      */
     public ThreadSafeLayout(final Layout layout) {
+        this(layout, null);
+    }
+    /**
+     * Constructor.
+     * @param layout decorated layout
+     * @param metrics metrics recording the number of characters of
+     *        formatted log entries
+     *        (may be <code>null</code>)
+     * @since 4.1.0
+     */
+    public ThreadSafeLayout(final Layout layout, IMetrics metrics) {
         super();
         this.layout = layout;
+        this.metrics = metrics;
     }
 
     @Override
@@ -54,10 +69,17 @@ public class ThreadSafeLayout extends Layout {
     @Override
     public String format(LoggingEvent evt) {
         String jobId = JobSuite.getCurrentJobId();
+        String entry;
         if (jobId == null) {
-            return "[non-job]: " + layout.format(evt);
+            entry = "[non-job]: " + layout.format(evt);
+        } else {
+            entry = jobId + ": " + layout.format(evt);
+        }
+        if (metrics != null) {
+            metrics.incrementCounter(
+                    MetricNames.LOG_CHARS_WRITTEN, entry.length());
         }
-        return jobId + ": " + layout.format(evt);
+        return entry;
     }
 
     @Override
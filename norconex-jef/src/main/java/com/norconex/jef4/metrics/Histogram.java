@@ -0,0 +1,140 @@
+/* Copyright 2026 Norconex Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.norconex.jef4.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Histogram of positive values with a fixed relative precision, in the
+ * manner of HDR histograms.  Values are counted in buckets covering at
+ * most about 3% of the values they hold (e.g., values from 992 to 1007
+ * share a bucket), and values under 64 are counted exactly.  Recording
+ * a value takes constant time and creates no objects.
+ * Negative values are recorded as zero.
+ * <br><br>
+ * This class is thread-safe, and does not lock.  Values read while
+ * other values are being recorded may not include them all.
+ * @author agent
+ * @since 4.1.0
+ */
+public class Histogram {
+
+    // Values are divided in powers of two, and each power of two
+    // in 32 sub-buckets (64 for the first one).
+    private static final int SUB_BUCKET_BITS = 6;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int SUB_BUCKET_HALF = SUB_BUCKET_COUNT / 2;
+    private static final int BUCKET_COUNT = 
+            indexOf(Long.MAX_VALUE) + 1;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+    private final AtomicLong count = new AtomicLong();
+    private final AtomicLong total = new AtomicLong();
+    private final AtomicLong min = new AtomicLong(Long.MAX_VALUE);
+    private final AtomicLong max = new AtomicLong(Long.MIN_VALUE);
+
+    public Histogram() {
+        super();
+    }
+
+    /**
+     * Records a value.
+     * @param value the value
+     */
+    public void record(long value) {
+        long v = Math.max(0, value);
+        counts.incrementAndGet(indexOf(v));
+        count.incrementAndGet();
+        total.addAndGet(v);
+        long current = min.get();
+        while (v < current && !min.compareAndSet(current, v)) {
+            current = min.get();
+        }
+        current = max.get();
+        while (v > current && !max.compareAndSet(current, v)) {
+            current = max.get();
+        }
+    }
+
+    /**
+     * Gets the number of values recorded.
+     * @return value count
+     */
+    public long getCount() {
+        return count.get();
+    }
+    /**
+     * Gets the smallest value recorded.
+     * @return minimum value, or zero if no values were recorded
+     */
+    public long getMin() {
+        return count.get() == 0 ? 0 : min.get();
+    }
+    /**
+     * Gets the largest value recorded.
+     * @return maximum value, or zero if no values were recorded
+     */
+    public long getMax() {
+        return count.get() == 0 ? 0 : max.get();
+    }
+    /**
+     * Gets the average of values recorded.
+     * @return mean value, or zero if no values were recorded
+     */
+    public double getMean() {
+        long c = count.get();
+        return c == 0 ? 0 : (double) total.get() / c;
+    }
+
+    /**
+     * Gets the value under which the given percentage of recorded values
+     * fall, within the precision of this histogram.
+     * @param percentile percentage, from 0 to 100
+     * @return value at percentile, or zero if no values were recorded
+     */
+    public long getValueAtPercentile(double percentile) {
+        long c = count.get();
+        if (c == 0) {
+            return 0;
+        }
+        long target = Math.max(1, (long) Math.ceil(
+                Math.min(100, Math.max(0, percentile)) / 100d * c));
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += counts.get(i);
+            if (seen >= target) {
+                return Math.max(getMin(), Math.min(getMax(), highestOf(i)));
+            }
+        }
+        return getMax();
+    }
+
+    private static int indexOf(long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+        int shift = 64 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+        return shift * SUB_BUCKET_HALF + (int) (value >>> shift);
+    }
+    private static long highestOf(int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+        int shift = index / SUB_BUCKET_HALF - 1;
+        long subBucket = index - (long) shift * SUB_BUCKET_HALF;
+        return ((subBucket + 1) << shift) - 1;
+    }
+}
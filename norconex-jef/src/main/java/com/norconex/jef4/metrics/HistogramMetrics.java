@@ -0,0 +1,153 @@
+/* Copyright 2026 Norconex Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.norconex.jef4.metrics;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Keeps metrics in memory: durations in {@link Histogram}s, counters
+ * and gauges as single values.
+ * <br><br>
+ * This class is thread-safe.
+ * @author agent
+ * @since 4.1.0
+ */
+public class HistogramMetrics implements IMetrics {
+
+    private final ConcurrentMap<String, Histogram> histograms =
+            new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, AtomicLong> counters =
+            new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, AtomicLong> gauges =
+            new ConcurrentHashMap<>();
+
+    public HistogramMetrics() {
+        super();
+    }
+
+    @Override
+    public void recordDuration(String name, long nanos) {
+        Histogram histogram = histograms.get(name);
+        if (histogram == null) {
+            histogram = new Histogram();
+            Histogram existing = histograms.putIfAbsent(name, histogram);
+            if (existing != null) {
+                histogram = existing;
+            } else {
+                histogramCreated(name, histogram);
+            }
+        }
+        histogram.record(nanos);
+    }
+
+    @Override
+    public void incrementCounter(String name, long delta) {
+        AtomicLong counter = counters.get(name);
+        if (counter == null) {
+            counter = new AtomicLong();
+            AtomicLong existing = counters.putIfAbsent(name, counter);
+            if (existing != null) {
+                counter = existing;
+            } else {
+                counterCreated(name, counter);
+            }
+        }
+        counter.addAndGet(delta);
+    }
+
+    @Override
+    public void setGauge(String name, long value) {
+        AtomicLong gauge = gauges.get(name);
+        if (gauge == null) {
+            gauge = new AtomicLong();
+            AtomicLong existing = gauges.putIfAbsent(name, gauge);
+            if (existing != null) {
+                gauge = existing;
+            } else {
+                gaugeCreated(name, gauge);
+            }
+        }
+        gauge.set(value);
+    }
+
+    /**
+     * Gets the histogram of durations recorded for a metric, in
+     * nanoseconds.
+     * @param name metric name
+     * @return histogram, or <code>null</code> if no durations were recorded
+     */
+    public Histogram getHistogram(String name) {
+        return histograms.get(name);
+    }
+    /**
+     * Gets the value of a counter.
+     * @param name metric name
+     * @return counter value, or zero if never incremented
+     */
+    public long getCounter(String name) {
+        AtomicLong counter = counters.get(name);
+        return counter == null ? 0 : counter.get();
+    }
+    /**
+     * Gets the value of a gauge.
+     * @param name metric name
+     * @return gauge value, or zero if never set
+     */
+    public long getGauge(String name) {
+        AtomicLong gauge = gauges.get(name);
+        return gauge == null ? 0 : gauge.get();
+    }
+
+    public Set<String> getHistogramNames() {
+        return Collections.unmodifiableSet(histograms.keySet());
+    }
+    public Set<String> getCounterNames() {
+        return Collections.unmodifiableSet(counters.keySet());
+    }
+    public Set<String> getGaugeNames() {
+        return Collections.unmodifiableSet(gauges.keySet());
+    }
+
+    /**
+     * Invoked once when the first duration of a metric is recorded,
+     * before it gets recorded.
+     * @param name metric name
+     * @param histogram new histogram
+     */
+    protected void histogramCreated(String name, Histogram histogram) {
+        // NOOP
+    }
+    /**
+     * Invoked once when a counter is first incremented, before it gets
+     * incremented.
+     * @param name metric name
+     * @param counter new counter
+     */
+    protected void counterCreated(String name, AtomicLong counter) {
+        // NOOP
+    }
+    /**
+     * Invoked once when a gauge is first set, before it gets set.
+     * @param name metric name
+     * @param gauge new gauge
+     */
+    protected void gaugeCreated(String name, AtomicLong gauge) {
+        // NOOP
+    }
+}
@@ -0,0 +1,50 @@
+/* Copyright 2026 Norconex Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.norconex.jef4.metrics;
+
+/**
+ * Records job suite execution metrics.  Set on a
+ * {@link com.norconex.jef4.suite.JobSuiteConfig} to enable metrics
+ * (disabled by default).  Metric names are listed in {@link MetricNames}.
+ * Implementations must be thread-safe and should return quickly, as they
+ * are invoked from job threads.
+ * @author agent
+ * @since 4.1.0
+ * @see HistogramMetrics
+ * @see JmxMetrics
+ */
+public interface IMetrics {
+
+    /**
+     * Records a duration.
+     * @param name metric name
+     * @param nanos duration in nanoseconds
+     */
+    void recordDuration(String name, long nanos);
+
+    /**
+     * Adds to a counter.
+     * @param name metric name
+     * @param delta value to add
+     */
+    void incrementCounter(String name, long delta);
+
+    /**
+     * Sets the current value of a gauge.
+     * @param name metric name
+     * @param value gauge value
+     */
+    void setGauge(String name, long value);
+}
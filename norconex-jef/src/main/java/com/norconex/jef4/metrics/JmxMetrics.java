@@ -0,0 +1,204 @@
+/* Copyright 2026 Norconex Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.norconex.jef4.metrics;
+
+import java.lang.management.ManagementFactory;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.apache.log4j.LogManager;
+import org.apache.log4j.Logger;
+
+/**
+ * Keeps metrics in memory like {@link HistogramMetrics}, and exposes them
+ * as JMX MBeans on the platform MBean server, as they get recorded.
+ * MBeans are named after the metric type and name, e.g.:
+ * <code>com.norconex.jef4:type=Histogram,name="jef.status.writeTime"</code>.
+ * Durations are exposed in nanoseconds.
+ * <br><br>
+ * MBeans remain registered until {@link #unregister()} is invoked, which
+ * job suites using these metrics do when they end, so other instances
+ * can register theirs.  They are registered again by
+ * {@link #register()}, which job suites do when they start.  Only one
+ * instance per JMX domain should be registered at once: MBeans
+ * already registered by another instance are not replaced.
+ * @author agent
+ * @since 4.1.0
+ */
+@SuppressWarnings("nls")
+public class JmxMetrics extends HistogramMetrics {
+
+    private static final Logger LOG = LogManager.getLogger(JmxMetrics.class);
+
+    /** Default JMX domain of MBeans. */
+    public static final String DEFAULT_DOMAIN = "com.norconex.jef4";
+
+    private final MBeanServer server =
+            ManagementFactory.getPlatformMBeanServer();
+    private final String domain;
+    // Guarded by "this"
+    private final Map<ObjectName, Object> mbeans = new LinkedHashMap<>();
+    private final Set<ObjectName> registered = new HashSet<>();
+    private boolean active = true;
+
+    public JmxMetrics() {
+        this(DEFAULT_DOMAIN);
+    }
+    /**
+     * Creates JMX metrics registering MBeans under the given domain.
+     * @param domain JMX domain
+     */
+    public JmxMetrics(String domain) {
+        super();
+        this.domain = domain;
+    }
+
+    /**
+     * Registers MBeans of all metrics recorded so far, and of metrics
+     * recorded from now on.  MBeans are registered as metrics get
+     * recorded by default, so this method only needs to be invoked after
+     * {@link #unregister()}.
+     * @since 4.1.0
+     */
+    public synchronized void register() {
+        active = true;
+        for (Map.Entry<ObjectName, Object> en : mbeans.entrySet()) {
+            register(en.getKey(), en.getValue());
+        }
+    }
+
+    /**
+     * Unregisters all MBeans registered by this instance.  Metrics
+     * recorded afterwards are kept in memory, but not registered until
+     * {@link #register()} is invoked.
+     */
+    public synchronized void unregister() {
+        active = false;
+        for (ObjectName name : registered) {
+            try {
+                server.unregisterMBean(name);
+            } catch (JMException e) {
+                LOG.debug("Cannot unregister metric MBean: " + name, e);
+            }
+        }
+        registered.clear();
+    }
+
+    @Override
+    protected void histogramCreated(String name, final Histogram histogram) {
+        register("Histogram", name, new HistogramMXBean() {
+            @Override
+            public long getCount() {
+                return histogram.getCount();
+            }
+            @Override
+            public long getMin() {
+                return histogram.getMin();
+            }
+            @Override
+            public long getMax() {
+                return histogram.getMax();
+            }
+            @Override
+            public double getMean() {
+                return histogram.getMean();
+            }
+            @Override
+            public long get50thPercentile() {
+                return histogram.getValueAtPercentile(50);
+            }
+            @Override
+            public long get95thPercentile() {
+                return histogram.getValueAtPercentile(95);
+            }
+            @Override
+            public long get99thPercentile() {
+                return histogram.getValueAtPercentile(99);
+            }
+        });
+    }
+    @Override
+    protected void counterCreated(String name, AtomicLong counter) {
+        register("Counter", name, newValueBean(counter));
+    }
+    @Override
+    protected void gaugeCreated(String name, AtomicLong gauge) {
+        register("Gauge", name, newValueBean(gauge));
+    }
+
+    private ValueMXBean newValueBean(final AtomicLong value) {
+        return new ValueMXBean() {
+            @Override
+            public long getValue() {
+                return value.get();
+            }
+        };
+    }
+
+    private synchronized void register(
+            String type, String name, Object mbean) {
+        ObjectName objectName;
+        try {
+            objectName = new ObjectName(domain + ":type=" + type
+                    + ",name=" + ObjectName.quote(name));
+        } catch (JMException e) {
+            // Not thrown: metrics must not make jobs fail.
+            LOG.error("Invalid metric MBean name: " + name, e);
+            return;
+        }
+        mbeans.put(objectName, mbean);
+        if (active) {
+            register(objectName, mbean);
+        }
+    }
+    private void register(ObjectName objectName, Object mbean) {
+        if (registered.contains(objectName)) {
+            return;
+        }
+        try {
+            server.registerMBean(mbean, objectName);
+            registered.add(objectName);
+        } catch (JMException e) {
+            // Not thrown: metrics must not make jobs fail.
+            LOG.error("Cannot register metric MBean: " + objectName, e);
+        }
+    }
+
+    /**
+     * Histogram of durations, in nanoseconds.
+     */
+    public interface HistogramMXBean {
+        long getCount();
+        long getMin();
+        long getMax();
+        double getMean();
+        long get50thPercentile();
+        long get95thPercentile();
+        long get99thPercentile();
+    }
+    /**
+     * Counter or gauge value.
+     */
+    public interface ValueMXBean {
+        long getValue();
+    }
+}
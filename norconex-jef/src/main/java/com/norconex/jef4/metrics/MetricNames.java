@@ -0,0 +1,75 @@
+/* Copyright 2026 Norconex Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.norconex.jef4.metrics;
+
+/**
+ * Names of metrics recorded by job suites.  Metric names never include
+ * job identifiers, so the number of metrics does not grow with the number
+ * of jobs.  Durations of each job are kept in job statuses
+ * (see {@link com.norconex.jef4.status.JobDuration}).
+ * @author agent
+ * @since 4.1.0
+ */
+@SuppressWarnings("nls")
+public final class MetricNames {
+
+    /**
+     * Duration of each job execution, for all jobs of a given class
+     * (followed by the job fully qualified class name).
+     */
+    public static final String JOB_RUN_TIME = "jef.job.runTime.";
+    /** Duration of each job status write to the job status store. */
+    public static final String STATUS_WRITE_TIME = "jef.status.writeTime";
+    /** Duration of dispatching an event to all listeners of its type. */
+    public static final String LISTENER_DISPATCH_TIME =
+            "jef.listener.dispatchTime";
+    /**
+     * Duration jobs of asynchronous job groups waited to be run, from
+     * the start of their group.
+     */
+    public static final String GROUP_QUEUE_WAIT_TIME =
+            "jef.group.queueWaitTime";
+    /**
+     * Number of jobs asynchronous job groups are running (gauge), across
+     * all groups recording to the same metrics.
+     */
+    public static final String GROUP_ACTIVE_THREADS =
+            "jef.group.activeThreads";
+    /**
+     * Number of jobs asynchronous job groups with adaptive concurrency
+     * allow to run at once (gauge), across all such groups recording to
+     * the same metrics.
+     */
+    public static final String GROUP_CONCURRENCY_LIMIT =
+            "jef.group.concurrencyLimit";
+    /**
+     * Number of times asynchronous job groups with adaptive concurrency
+     * changed their limit (followed by the decision name, e.g.
+     * <code>INCREASE</code> or <code>DECREASE_CPU</code>).
+     */
+    public static final String GROUP_CONCURRENCY_DECISIONS =
+            "jef.group.concurrencyDecisions.";
+    /** Delay of each job heartbeat past its scheduled time. */
+    public static final String HEARTBEAT_LAG = "jef.heartbeat.lag";
+    /**
+     * Number of characters of log entries written to job suite logs,
+     * before they get encoded.
+     */
+    public static final String LOG_CHARS_WRITTEN = "jef.log.charsWritten";
+
+    private MetricNames() {
+        super();
+    }
+}
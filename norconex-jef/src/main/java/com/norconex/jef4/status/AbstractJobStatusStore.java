@@ -0,0 +1,106 @@
+/* Copyright 2026 Norconex Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.norconex.jef4.status;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Convenient base class for implementing job status stores.  Provides
+ * bulk methods, with default implementations invoking their single-job
+ * equivalent for each job.  Callers fall back to single-job methods
+ * for stores not extending this class.  Implementors are encouraged to override them
+ * when they can be performed more efficiently.
+ * @author agent
+ * @since 4.1.0
+ */
+public abstract class AbstractJobStatusStore implements IJobStatusStore {
+
+    /**
+     * Reads the job progress of many jobs at once.  The returned map
+     * has an entry for each job id, in the same order.  Like
+     * {@link #read(String, String)}, implementors are required to always
+     * return a job progress for each job.  This default implementation
+     * invokes {@link #read(String, String)} for each job.
+     * @param suiteName name space given to the job progresses
+     * @param jobIds job unique identifiers
+     * @return job progresses, keyed by job id
+     * @throws IOException problem deserializing job progresses
+     */
+    public Map<String, IJobStatus> readAll(
+            String suiteName, Collection<String> jobIds) throws IOException {
+        Map<String, IJobStatus> statuses = new LinkedHashMap<>();
+        for (String jobId : jobIds) {
+            statuses.put(jobId, read(suiteName, jobId));
+        }
+        return statuses;
+    }
+
+    /**
+     * Gets the time a job status was last modified in the store, as
+     * milliseconds since the epoch.  Used by status caches to find out
+     * which job statuses need to be read again. Returns <code>-1</code>
+     * when this information is not available, in which case the job status
+     * is always considered modified.  This default implementation
+     * always returns <code>-1</code>.
+     * @param suiteName job suite name
+     * @param jobId job id
+     * @return last modified time or <code>-1</code> if unknown
+     * @throws IOException problem obtaining the last modified time
+     */
+    public long getLastModified(String suiteName, String jobId)
+            throws IOException {
+        return -1;
+    }
+
+    /**
+     * Releases resources held for a job suite, such as open files.
+     * Invoked by job suites once they are done executing.  The store
+     * remains usable for that suite afterwards.  This default
+     * implementation does nothing.
+     * @param suiteName job suite name
+     */
+    public void release(String suiteName) {
+        // NOOP
+    }
+
+    /**
+     * Gets flags making up the persisted state of a job, regardless of
+     * its activity.  Used by stores forcing writes to disk only when
+     * that state changes.
+     * @param jobStatus job status
+     * @return state flags
+     */
+    static int stateFlags(IJobStatus jobStatus) {
+        JobDuration duration = jobStatus.getDuration();
+        int flags = 0;
+        if (duration.getStartTimeMillis() != -1) {
+            flags |= 1;
+        }
+        if (duration.getEndTimeMillis() != -1) {
+            flags |= 1 << 1;
+        }
+        if (jobStatus.isCompleted()) {
+            flags |= 1 << 2;
+        }
+        if (jobStatus.isStopping() || jobStatus.isStopped()) {
+            flags |= 1 << 3;
+        }
+        flags |= jobStatus.getResumeAttempts() << 4;
+        return flags;
+    }
+}
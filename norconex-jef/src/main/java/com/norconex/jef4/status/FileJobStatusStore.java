@@ -23,8 +23,32 @@ import java.io.InputStream;
 import java.io.OutputStream;
 import java.io.Reader;
 import java.io.Writer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Date;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 import javax.xml.stream.XMLOutputFactory;
 import javax.xml.stream.XMLStreamException;
@@ -48,18 +72,57 @@ import com.norconex.jef4.job.JobException;
  * File-based status store. The created
  * file name matches the job id, plus the ".job" extension.  The path
  * where to locate the file depends on the constructor invoked.
+ * <br><br>
+ * Status files are first written to a temporary file, which is then
+ * atomically renamed to replace the previous status file.  A process
+ * killed in the middle of a write can therefore not leave a partially 
+ * written status file behind.  Whether written files are also forced
+ * to disk (fsync) is controlled with {@link #setFsyncPolicy(FsyncPolicy)}.
+ * Forced writes also sync the status directory after the rename, where
+ * the platform supports it.
  *
  * @author Pascal Essiembre
  */
 @SuppressWarnings("nls")
-public class FileJobStatusStore implements IJobStatusStore {
+public class FileJobStatusStore extends AbstractJobStatusStore {
 
     private static final Logger LOG =
             LogManager.getLogger(FileJobStatusStore.class);
 
+    /** Minimum number of status files to read before using many threads. */
+    private static final int PARALLEL_READ_THRESHOLD = 64;
+    /** Seconds before idle reading threads end. */
+    private static final long READ_THREAD_KEEP_ALIVE = 60;
+
+    // Shared by all stores, created when first needed
+    private static ExecutorService readPool;
+
+    /**
+     * When to force written status files to disk (fsync).  Forcing
+     * guarantees a status survives an operating system crash or power
+     * loss, at the cost of extra I/O on every forced write.
+     * @since 4.1.0
+     */
+    public enum FsyncPolicy {
+        /** Never force writes, leave it to the operating system (default). */
+        NEVER,
+        /** Force writes only when the job execution state changes. */
+        ON_STATE_CHANGE,
+        /** Force every write. */
+        ALWAYS
+    }
+
     private String jobdirLatest;
     private String jobdirBackupBase;
     private String statusDir;
+    private FsyncPolicy fsyncPolicy = FsyncPolicy.NEVER;
+    
+    /** 
+     * Last state flags written for each status file (fsync on state 
+     * change).  Keyed by file name, which is unique per suite and job.
+     */
+    private final Map<String, Integer> writtenStates = 
+            new ConcurrentHashMap<>();
 
     private boolean needToResolveDirs= true;
     
@@ -84,6 +147,27 @@ public class FileJobStatusStore implements IJobStatusStore {
         this.statusDir = statusDirectory;
         this.needToResolveDirs = true;
     }
+    /**
+     * Gets when written status files are forced to disk.
+     * @return fsync policy
+     * @since 4.1.0
+     */
+    public FsyncPolicy getFsyncPolicy() {
+        return fsyncPolicy;
+    }
+    /**
+     * Sets when written status files are forced to disk.
+     * Default is {@link FsyncPolicy#NEVER}.
+     * @param fsyncPolicy fsync policy
+     * @since 4.1.0
+     */
+    public void setFsyncPolicy(FsyncPolicy fsyncPolicy) {
+        if (fsyncPolicy == null) {
+            this.fsyncPolicy = FsyncPolicy.NEVER;
+        } else {
+            this.fsyncPolicy = fsyncPolicy;
+        }
+    }
 
     private synchronized void resolveDirsIfNeeded() {
         // Leave now if we do not need to update dirs.
@@ -120,9 +204,6 @@ public class FileJobStatusStore implements IJobStatusStore {
             throws IOException {
 
         File file = getStatusFile(suiteName, jobStatus.getJobId());
-        if (file.createNewFile() && LOG.isDebugEnabled()) {
-            LOG.debug("Created status file: " + file);
-        }
         if (LOG.isDebugEnabled()) {
             LOG.debug("Writing status file: " + file);
         }
@@ -153,9 +234,83 @@ public class FileJobStatusStore implements IJobStatusStore {
             config.put("prop." + key, props.get(key));
         }
         
-        OutputStream os = new BufferedOutputStream(new FileOutputStream(file));
-        config.store(os, "Status for job: " + jobStatus.getJobId());
-        os.close();
+        boolean fsync = shouldFsync(file, jobStatus);
+        Path tempFile = newTempFile(file).toPath();
+        try {
+            FileOutputStream fos = new FileOutputStream(tempFile.toFile());
+            try {
+                OutputStream os = new BufferedOutputStream(fos);
+                config.store(os, "Status for job: " + jobStatus.getJobId());
+                os.flush();
+                if (fsync) {
+                    fos.getFD().sync();
+                }
+            } finally {
+                IOUtils.closeQuietly(fos);
+            }
+            replaceFile(tempFile, file.toPath());
+            if (fsync) {
+                // The rename is only durable once the directory is synced.
+                syncDirectory(file.getParentFile().toPath());
+            }
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+    
+    /**
+     * Creates a new empty file with a unique name, in the same directory
+     * as the given file it is meant to replace.  Unlike
+     * {@link Files#createTempFile(Path, String, String, 
+     * java.nio.file.attribute.FileAttribute...)}, the file gets the
+     * same default permissions as any other file, which it keeps once
+     * renamed.
+     * @param target file to be replaced
+     * @return new temporary file
+     * @throws IOException problem creating the file
+     */
+    /*default*/ static File newTempFile(File target) throws IOException {
+        File dir = target.getAbsoluteFile().getParentFile();
+        while (true) {
+            File tempFile = new File(dir, target.getName() + "." 
+                    + Integer.toHexString(ThreadLocalRandom.current().nextInt())
+                    + ".tmp");
+            if (tempFile.createNewFile()) {
+                return tempFile;
+            }
+        }
+    }
+
+    private boolean shouldFsync(File file, IJobStatus jobStatus) {
+        if (fsyncPolicy == FsyncPolicy.ALWAYS) {
+            return true;
+        }
+        if (fsyncPolicy == FsyncPolicy.NEVER) {
+            return false;
+        }
+        int flags = stateFlags(jobStatus);
+        Integer previous = writtenStates.put(file.getName(), flags);
+        return previous == null || previous != flags;
+    }
+    
+    private void syncDirectory(Path dir) {
+        try (FileChannel channel = FileChannel.open(
+                dir, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            // Some platforms (e.g. Windows) cannot open directories.
+            LOG.debug("Could not sync status directory: " + dir, e);
+        }
+    }
+    
+    private void replaceFile(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            LOG.debug("Atomic move not supported, replacing status file "
+                    + "non-atomically: " + target);
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
     }
 
     @Override
@@ -163,17 +318,104 @@ public class FileJobStatusStore implements IJobStatusStore {
             throws IOException {
         
         resolveDirsIfNeeded();
-        MutableJobStatus jobStatus = new MutableJobStatus(jobId);
         File file = getStatusFile(suiteName, jobId);
         
         if (LOG.isDebugEnabled()) {
             LOG.debug("Reading status file: " + file);
         }
         if (!file.exists()) {
-            return jobStatus;
+            return new MutableJobStatus(jobId);
+        }
+        return readStatusFile(jobId, file);
+    }
+
+    /**
+     * Reads many status files at once.  The status directory is listed
+     * only once to find out which jobs have a status file, and
+     * large numbers of status files are read using multiple threads.
+     */
+    @Override
+    public Map<String, IJobStatus> readAll(
+            String suiteName, Collection<String> jobIds) throws IOException {
+        resolveDirsIfNeeded();
+        Set<String> fileNames = new HashSet<>();
+        String[] names = new File(jobdirLatest).list();
+        if (names != null) {
+            fileNames.addAll(Arrays.asList(names));
+        }
+        // Keys are added in the requested order, values set after.
+        Map<String, IJobStatus> statuses = new LinkedHashMap<>();
+        Map<String, File> files = new LinkedHashMap<>();
+        for (String jobId : jobIds) {
+            File file = getStatusFile(suiteName, jobId);
+            if (fileNames.contains(file.getName())) {
+                statuses.put(jobId, null);
+                files.put(jobId, file);
+            } else {
+                statuses.put(jobId, new MutableJobStatus(jobId));
+            }
+        }
+        if (files.size() < PARALLEL_READ_THRESHOLD) {
+            for (Map.Entry<String, File> en : files.entrySet()) {
+                statuses.put(en.getKey(), 
+                        readStatusFile(en.getKey(), en.getValue()));
+            }
+            return statuses;
         }
         
+        ExecutorService pool = getReadPool();
+        try {
+            List<String> ids = new ArrayList<>(files.size());
+            List<Callable<IJobStatus>> tasks = new ArrayList<>(files.size());
+            for (final Map.Entry<String, File> en : files.entrySet()) {
+                ids.add(en.getKey());
+                tasks.add(new Callable<IJobStatus>() {
+                    @Override
+                    public IJobStatus call() throws IOException {
+                        return readStatusFile(en.getKey(), en.getValue());
+                    }
+                });
+            }
+            List<Future<IJobStatus>> results = pool.invokeAll(tasks);
+            for (int i = 0; i < results.size(); i++) {
+                statuses.put(ids.get(i), results.get(i).get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while reading status files.", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw new JEFException("Cannot read status files.", e.getCause());
+        }
+        return statuses;
+    }
+
+    // Bounded to the number of processors, with threads ending when idle
+    // so nothing lingers between snapshot reads.
+    private static synchronized ExecutorService getReadPool() {
+        if (readPool == null) {
+            int threads = Runtime.getRuntime().availableProcessors();
+            ThreadPoolExecutor pool = new ThreadPoolExecutor(threads, threads,
+                    READ_THREAD_KEEP_ALIVE, TimeUnit.SECONDS,
+                    new LinkedBlockingQueue<Runnable>(), new ThreadFactory() {
+                @Override
+                public Thread newThread(Runnable r) {
+                    Thread thread = new Thread(r, "JEF status reader");
+                    thread.setDaemon(true);
+                    return thread;
+                }
+            });
+            pool.allowCoreThreadTimeOut(true);
+            readPool = pool;
+        }
+        return readPool;
+    }
 
+    private MutableJobStatus readStatusFile(String jobId, File file)
+            throws IOException {
+        MutableJobStatus jobStatus = new MutableJobStatus(jobId);
         Properties config = new Properties();
         InputStream is = null;
         try {
@@ -218,6 +460,7 @@ public class FileJobStatusStore implements IJobStatusStore {
             throws IOException {
         File file = getStatusFile(suiteName, jobId);
         FileUtil.delete(file);
+        writtenStates.remove(file.getName());
     }
 
     @Override
@@ -229,6 +472,7 @@ public class FileJobStatusStore implements IJobStatusStore {
         if (progressFile.exists()) {
             FileUtil.moveFile(progressFile, backupFile);
         }
+        writtenStates.remove(progressFile.getName());
     }
 
     @Override
@@ -237,6 +481,13 @@ public class FileJobStatusStore implements IJobStatusStore {
         FileUtils.touch(file);
         return file.lastModified();
     }
+
+    @Override
+    public long getLastModified(String suiteName, String jobId)
+            throws IOException {
+        // zero when the file does not exist, distinct from "unknown"
+        return getStatusFile(suiteName, jobId).lastModified();
+    }
     
     /**
      * Gets the file used to store the job progress.
@@ -288,6 +539,11 @@ public class FileJobStatusStore implements IJobStatusStore {
     public void loadFromXML(Reader in) throws IOException {
         XMLConfiguration xml = ConfigurationUtil.newXMLConfiguration(in);
         setStatusDirectory(xml.getString("statusDir", statusDir));
+        String policy = xml.getString("fsyncPolicy", null);
+        if (StringUtils.isNotBlank(policy)) {
+            setFsyncPolicy(FsyncPolicy.valueOf(
+                    StringUtils.upperCase(policy.trim())));
+        }
     }
 
     @Override
@@ -300,6 +556,9 @@ public class FileJobStatusStore implements IJobStatusStore {
             writer.writeStartElement("statusDir");
             writer.writeCharacters(new File(statusDir).getAbsolutePath());
             writer.writeEndElement();
+            writer.writeStartElement("fsyncPolicy");
+            writer.writeCharacters(fsyncPolicy.name());
+            writer.writeEndElement();
             writer.writeEndElement();
             writer.flush();
             writer.close();
@@ -15,20 +15,29 @@
 package com.norconex.jef4.status;
 
 import java.util.Date;
-
-import org.apache.commons.lang3.ObjectUtils;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Holds time-related information about a job execution.
+ * As of 4.1.0, times are held as epoch milliseconds and can be obtained
+ * without creating {@link Date} instances using the "Millis" variant
+ * of each getter, which returns -1 when a time is not set.
+ * Times are always read as last set by any thread.
  * @author Pascal Essiembre
  */
 public class JobDuration {
 
-    private Date resumedStartTime;
-    private Date resumedLastActivity;
+    private static final long NOT_SET = -1;
+
+    private volatile long resumedStartTime = NOT_SET;
+    private volatile long resumedLastActivity = NOT_SET;
     
-    private Date startTime;
-    private Date endTime;
+    private volatile long startTime = NOT_SET;
+    private volatile long endTime = NOT_SET;
+
+    // Incremented on changes so job statuses know when to update their
+    // state or copy them again.
+    private final AtomicInteger modCount = new AtomicInteger();
     
     /**
      * Creates a job elapsed time.
@@ -42,14 +51,31 @@ public class JobDuration {
      * @return end time
      */
     public final Date getEndTime() {
-        return ObjectUtils.clone(endTime);
+        return toDate(endTime);
     }
     /**
      * Sets the end time.
      * @param endTime end time
      */
     public final void setEndTime(final Date endTime) {
-        this.endTime = ObjectUtils.clone(endTime);
+        setEndTimeMillis(toMillis(endTime));
+    }
+    /**
+     * Gets the end time in epoch milliseconds.
+     * @return end time or -1 if not set
+     * @since 4.1.0
+     */
+    public final long getEndTimeMillis() {
+        return endTime;
+    }
+    /**
+     * Sets the end time in epoch milliseconds.
+     * @param endTime end time or -1 to unset it
+     * @since 4.1.0
+     */
+    public final void setEndTimeMillis(long endTime) {
+        this.endTime = endTime;
+        modCount.incrementAndGet();
     }
 
     /**
@@ -57,14 +83,31 @@ public class JobDuration {
      * @return start time
      */
     public final Date getStartTime() {
-        return ObjectUtils.clone(startTime);
+        return toDate(startTime);
     }
     /**
      * Sets the start time.
      * @param startTime start time
      */
     public final void setStartTime(final Date startTime) {
-        this.startTime = ObjectUtils.clone(startTime);
+        setStartTimeMillis(toMillis(startTime));
+    }
+    /**
+     * Gets the start time in epoch milliseconds.
+     * @return start time or -1 if not set
+     * @since 4.1.0
+     */
+    public final long getStartTimeMillis() {
+        return startTime;
+    }
+    /**
+     * Sets the start time in epoch milliseconds.
+     * @param startTime start time or -1 to unset it
+     * @since 4.1.0
+     */
+    public final void setStartTimeMillis(long startTime) {
+        this.startTime = startTime;
+        modCount.incrementAndGet();
     }
 
     /**
@@ -73,8 +116,10 @@ public class JobDuration {
      * @return elapsed time
      */
     public final long getDuration() {
-        if (startTime != null && endTime != null) {
-            return endTime.getTime() - startTime.getTime();
+        long start = startTime;
+        long end = endTime;
+        if (start != NOT_SET && end != NOT_SET) {
+            return end - start;
         }
         return 0;
     }
@@ -91,25 +136,55 @@ public class JobDuration {
     }
 
     public Date getResumedStartTime() {
-        return ObjectUtils.clone(resumedStartTime);
+        return toDate(resumedStartTime);
     }
 
     public void setResumedStartTime(Date resumedStartTime) {
-        this.resumedStartTime = ObjectUtils.clone(resumedStartTime);
+        this.resumedStartTime = toMillis(resumedStartTime);
+        modCount.incrementAndGet();
     }
 
     public Date getResumedLastActivity() {
-        return ObjectUtils.clone(resumedLastActivity);
+        return toDate(resumedLastActivity);
     }
 
     public void setResumedLastActivity(Date resumedLastActivity) {
-        this.resumedLastActivity = ObjectUtils.clone(resumedLastActivity);
+        this.resumedLastActivity = toMillis(resumedLastActivity);
+        modCount.incrementAndGet();
     }
 
     public long getResumedDuration() {
-        if (resumedStartTime != null && resumedLastActivity != null) {
-            return resumedLastActivity.getTime() - resumedStartTime.getTime();
+        long start = resumedStartTime;
+        long end = resumedLastActivity;
+        if (start != NOT_SET && end != NOT_SET) {
+            return end - start;
         }
         return 0;
     }
+
+    /*default*/ final int getModCount() {
+        return modCount.get();
+    }
+
+    /*default*/ final JobDuration copy() {
+        JobDuration copy = new JobDuration();
+        copy.resumedStartTime = resumedStartTime;
+        copy.resumedLastActivity = resumedLastActivity;
+        copy.startTime = startTime;
+        copy.endTime = endTime;
+        return copy;
+    }
+
+    private static Date toDate(long time) {
+        if (time == NOT_SET) {
+            return null;
+        }
+        return new Date(time);
+    }
+    private static long toMillis(Date date) {
+        if (date == null) {
+            return NOT_SET;
+        }
+        return date.getTime();
+    }
 }
@@ -0,0 +1,132 @@
+/* Copyright 2026 Norconex Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.norconex.jef4.status;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.log4j.LogManager;
+import org.apache.log4j.Logger;
+
+/**
+ * Job suite lease file, proving jobs of a suite are still running.
+ * A running suite periodically rewrites it with the ids of its running
+ * jobs. The file modification time is the last time those jobs were
+ * known to be alive, so a suite no longer updating it (e.g. killed)
+ * gets its jobs considered no longer running once the activity timeout
+ * elapses.  This replaces touching every running job status in the
+ * job status store.
+ * @author agent
+ * @since 4.1.0
+ */
+@SuppressWarnings("nls")
+public class JobHeartbeatFile {
+
+    private static final Logger LOG =
+            LogManager.getLogger(JobHeartbeatFile.class);
+
+    private final File file;
+
+    public JobHeartbeatFile(File file) {
+        super();
+        this.file = file;
+    }
+
+    public File getFile() {
+        return file;
+    }
+
+    /**
+     * Writes the ids of running jobs to this file, replacing any
+     * previous content and refreshing its modification time.
+     * @param runningJobIds ids of running jobs
+     * @throws IOException problem writing the file
+     */
+    public void write(Collection<String> runningJobIds) throws IOException {
+        File dir = file.getAbsoluteFile().getParentFile();
+        if (!dir.exists()) {
+            FileUtils.forceMkdir(dir);
+        }
+        Path tempFile = FileJobStatusStore.newTempFile(file).toPath();
+        try {
+            Files.write(tempFile, StringUtils.join(runningJobIds, '\n')
+                    .getBytes(StandardCharsets.UTF_8));
+            try {
+                Files.move(tempFile, file.toPath(),
+                        StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tempFile, file.toPath(),
+                        StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    /**
+     * Deletes this file, if it exists.
+     * @throws IOException problem deleting the file
+     */
+    public void delete() throws IOException {
+        Files.deleteIfExists(file.toPath());
+    }
+
+    /**
+     * Sets the last activity of job statuses listed in this file to
+     * the file last modification time, when more recent.  When the file
+     * cannot be read, whether jobs are alive is unknown and job statuses
+     * are left as is.
+     * @param statuses job statuses
+     */
+    /*default*/ void apply(Collection<IJobStatus> statuses) {
+        long lastModified = file.lastModified();
+        if (lastModified == 0) {
+            return;
+        }
+        Set<String> runningJobIds;
+        try {
+            runningJobIds = new HashSet<>(Files.readAllLines(
+                    file.toPath(), StandardCharsets.UTF_8));
+        } catch (NoSuchFileException e) {
+            // Suite just ended
+            return;
+        } catch (IOException e) {
+            LOG.warn("Cannot read job suite heartbeat file: " + file
+                    + " (" + e + ")");
+            return;
+        }
+        for (IJobStatus status : statuses) {
+            if (!(status instanceof MutableJobStatus)
+                    || !runningJobIds.contains(status.getJobId())) {
+                continue;
+            }
+            MutableJobStatus mutableStatus = (MutableJobStatus) status;
+            if (mutableStatus.getLastActivityMillis() < lastModified) {
+                mutableStatus.setLastActivityMillis(lastModified);
+            }
+        }
+    }
+}
@@ -0,0 +1,67 @@
+/* Copyright 2026 Norconex Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.norconex.jef4.status;
+
+/**
+ * A job status change published to a {@link JobStatusChangeFeed}.
+ * Immutable.
+ * @author agent
+ * @since 4.1.0
+ */
+public final class JobStatusChange {
+
+    private final String jobId;
+    private final long version;
+    private final JobState state;
+    private final double progress;
+    private final String note;
+
+    public JobStatusChange(String jobId, long version,
+            JobState state, double progress, String note) {
+        super();
+        this.jobId = jobId;
+        this.version = version;
+        this.state = state;
+        this.progress = progress;
+        this.note = note;
+    }
+
+    public String getJobId() {
+        return jobId;
+    }
+    /**
+     * Gets the feed version this change was published with.  Versions
+     * are incremented by one for each change published to a feed.
+     * @return version
+     */
+    public long getVersion() {
+        return version;
+    }
+    public JobState getState() {
+        return state;
+    }
+    public double getProgress() {
+        return progress;
+    }
+    public String getNote() {
+        return note;
+    }
+
+    @Override
+    public String toString() {
+        return version + ":" + jobId + "=" + state + "@" + progress
+                + (note == null ? "" : " (" + note + ")");
+    }
+}
@@ -0,0 +1,138 @@
+/* Copyright 2026 Norconex Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.norconex.jef4.status;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Keeps a bounded number of the latest job status changes, each with
+ * a version one greater than the previous change, so consumers can
+ * obtain only what changed since the last version they know about.
+ * Publishing a status identical to the last one published for the same
+ * job has no effect.  Once the feed is full, the oldest changes are
+ * discarded: consumers can tell they missed changes when the
+ * first change returned has a version greater than the one following
+ * the version they asked for.
+ * <br><br>
+ * This class is thread-safe.
+ * @author agent
+ * @since 4.1.0
+ */
+public class JobStatusChangeFeed {
+
+    /** Default number of changes kept. */
+    public static final int DEFAULT_CAPACITY = 1000;
+
+    // Guarded by "this"
+    private final JobStatusChange[] changes;
+    private final Map<String, JobStatusChange> lastChanges = new HashMap<>();
+    private long lastVersion;
+
+    public JobStatusChangeFeed() {
+        this(DEFAULT_CAPACITY);
+    }
+    /**
+     * Creates a feed keeping the given number of changes.
+     * @param capacity maximum number of changes kept
+     */
+    public JobStatusChangeFeed(int capacity) {
+        super();
+        this.changes = new JobStatusChange[Math.max(1, capacity)];
+    }
+
+    /**
+     * Publishes a change for the given job status, unless its state,
+     * progress and note are the same as last published.
+     * @param status job status
+     * @return the published change, or <code>null</code> if the job
+     *         status did not change
+     */
+    public synchronized JobStatusChange publish(IJobStatus status) {
+        String jobId = status.getJobId();
+        JobState state = status.getState();
+        double progress = status.getProgress();
+        String note = status.getNote();
+        JobStatusChange last = lastChanges.get(jobId);
+        if (last != null && last.getState() == state
+                && last.getProgress() == progress
+                && Objects.equals(last.getNote(), note)) {
+            return null;
+        }
+        JobStatusChange change = new JobStatusChange(
+                jobId, lastVersion + 1, state, progress, note);
+        lastVersion = change.getVersion();
+        changes[(int) (lastVersion % changes.length)] = change;
+        lastChanges.put(jobId, change);
+        notifyAll();
+        return change;
+    }
+
+    /**
+     * Gets the version of the last change published.
+     * @return last version, or zero if no change was published
+     */
+    public synchronized long getLastVersion() {
+        return lastVersion;
+    }
+    /**
+     * Gets the version of the oldest change kept.
+     * @return oldest version, or zero if no change was published
+     */
+    public synchronized long getOldestVersion() {
+        if (lastVersion == 0) {
+            return 0;
+        }
+        return Math.max(1, lastVersion - changes.length + 1);
+    }
+
+    /**
+     * Gets the changes published after the given version, waiting up to
+     * the given timeout for changes to be published if there are none.
+     * @param version last version known to the caller, zero to get all
+     *        changes kept
+     * @param timeout maximum milliseconds to wait for changes.
+     *        Zero or less does not wait.
+     * @return changes ordered by version, possibly empty
+     */
+    public synchronized List<JobStatusChange> changesSince(
+            long version, long timeout) {
+        long deadline = System.currentTimeMillis() + timeout;
+        long remaining = timeout;
+        while (lastVersion <= version && remaining > 0) {
+            try {
+                wait(remaining);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            remaining = deadline - System.currentTimeMillis();
+        }
+        if (lastVersion <= version) {
+            return Collections.emptyList();
+        }
+        long from = Math.max(version + 1, getOldestVersion());
+        List<JobStatusChange> list =
+                new ArrayList<>((int) (lastVersion - from + 1));
+        for (long v = from; v <= lastVersion; v++) {
+            list.add(changes[(int) (v % changes.length)]);
+        }
+        return list;
+    }
+}
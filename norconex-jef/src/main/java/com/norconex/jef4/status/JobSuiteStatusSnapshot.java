@@ -17,6 +17,9 @@ package com.norconex.jef4.status;
 import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -30,6 +33,7 @@ import org.apache.commons.lang3.StringUtils;
 import com.norconex.commons.lang.PercentFormatter;
 import com.norconex.commons.lang.config.ConfigurationUtil;
 import com.norconex.commons.lang.file.FileUtil;
+import com.norconex.jef4.JEFUtil;
 import com.norconex.jef4.job.IJob;
 import com.norconex.jef4.job.group.IJobGroup;
 import com.norconex.jef4.log.ILogManager;
@@ -42,6 +46,10 @@ public final class JobSuiteStatusSnapshot {
     private final JobStatusTreeNode rootNode;
     private Map<String, JobStatusTreeNode> flattenNodes = 
             new ListOrderedMap<>();
+    // Only set when loaded from a suite index
+    private String suiteName;
+    private IJobStatusStore statusStore;
+    private JobHeartbeatFile heartbeatFile;
     
     private JobSuiteStatusSnapshot(
             JobStatusTreeNode rootNode, ILogManager logManager) {
@@ -115,6 +123,54 @@ public final class JobSuiteStatusSnapshot {
         }
     }
     
+    /*default*/ String getSuiteName() {
+        return suiteName;
+    }
+    /*default*/ IJobStatusStore getStatusStore() {
+        return statusStore;
+    }
+
+    /**
+     * Updates the last activity of running jobs from the suite
+     * heartbeat file, if any.
+     */
+    /*default*/ void applyHeartbeat() {
+        if (heartbeatFile != null) {
+            heartbeatFile.apply(getJobStatusList());
+        }
+    }
+
+    /**
+     * Creates a copy of this snapshot with some of its job statuses
+     * replaced.  Job statuses not found in the supplied map are kept as is.
+     * @param jobStatuses replacement job statuses, keyed by job id
+     * @return new snapshot
+     */
+    /*default*/ JobSuiteStatusSnapshot withJobStatuses(
+            Map<String, IJobStatus> jobStatuses) {
+        Map<String, IJobStatus> statuses = new HashMap<>();
+        for (JobStatusTreeNode node : flattenNodes.values()) {
+            statuses.put(node.jobStatus.getJobId(), node.jobStatus);
+        }
+        statuses.putAll(jobStatuses);
+        JobSuiteStatusSnapshot snapshot = new JobSuiteStatusSnapshot(
+                copyTreeNode(null, rootNode, statuses), logManager);
+        snapshot.suiteName = suiteName;
+        snapshot.statusStore = statusStore;
+        snapshot.heartbeatFile = heartbeatFile;
+        return snapshot;
+    }
+    private static JobStatusTreeNode copyTreeNode(IJobStatus parentStatus,
+            JobStatusTreeNode node, Map<String, IJobStatus> statuses) {
+        IJobStatus status = statuses.get(node.jobStatus.getJobId());
+        List<JobStatusTreeNode> childNodes = 
+                new ArrayList<>(node.children.size());
+        for (JobStatusTreeNode childNode : node.children) {
+            childNodes.add(copyTreeNode(status, childNode, statuses));
+        }
+        return new JobStatusTreeNode(parentStatus, status, childNodes);
+    }
+    
     private void flattenNode(JobStatusTreeNode node) {
         flattenNodes.put(node.jobStatus.getJobId(), node);
         for (JobStatusTreeNode childNode : node.children) {
@@ -181,26 +237,66 @@ public final class JobSuiteStatusSnapshot {
         //--- Load status tree ---
         IJobStatusStore serial = 
                 ConfigurationUtil.newInstance(xml, "statusStore");
-        return new JobSuiteStatusSnapshot(loadTreeNode(
-                null, xml.configurationAt("job"), suiteName, serial),
-                        logManager);
+        HierarchicalConfiguration rootXML = xml.configurationAt("job");
+        List<String> jobIds = new ArrayList<>();
+        collectJobIds(rootXML, jobIds);
+        Map<String, IJobStatus> statuses = readAll(serial, suiteName, jobIds);
+        JobSuiteStatusSnapshot snapshot = new JobSuiteStatusSnapshot(
+                loadTreeNode(null, rootXML, statuses), logManager);
+        snapshot.suiteName = suiteName;
+        snapshot.statusStore = serial;
+        snapshot.heartbeatFile = new JobHeartbeatFile(new File(
+                FilenameUtils.removeExtension(suiteIndex.getPath())
+                        + JEFUtil.HEARTBEAT_FILE_EXTENSION));
+        snapshot.applyHeartbeat();
+        return snapshot;
+    }
+    
+    /**
+     * Reads many job statuses with a single call when the store supports
+     * it, or one at a time otherwise.
+     */
+    static Map<String, IJobStatus> readAll(IJobStatusStore store,
+            String suiteName, Collection<String> jobIds) throws IOException {
+        if (store instanceof AbstractJobStatusStore) {
+            return ((AbstractJobStatusStore) store).readAll(
+                    suiteName, jobIds);
+        }
+        Map<String, IJobStatus> statuses = new LinkedHashMap<>();
+        for (String jobId : jobIds) {
+            statuses.put(jobId, store.read(suiteName, jobId));
+        }
+        return statuses;
+    }
+    
+    private static void collectJobIds(
+            HierarchicalConfiguration jobXML, List<String> jobIds) {
+        if (jobXML == null) {
+            return;
+        }
+        jobIds.add(jobXML.getString("[@name]"));
+        List<HierarchicalConfiguration> xmls = jobXML.configurationsAt("job");
+        if (xmls != null) {
+            for (HierarchicalConfiguration xml : xmls) {
+                collectJobIds(xml, jobIds);
+            }
+        }
     }
     
     private static JobStatusTreeNode loadTreeNode(
-            IJobStatus parentStatus,
-            HierarchicalConfiguration jobXML, String suiteName, 
-            IJobStatusStore store) throws IOException {
+            IJobStatus parentStatus, HierarchicalConfiguration jobXML, 
+            Map<String, IJobStatus> statuses) {
         if (jobXML == null) {
             return null;
         }
         String jobId = jobXML.getString("[@name]");
-        IJobStatus jobStatus = store.read(suiteName, jobId);
+        IJobStatus jobStatus = statuses.get(jobId);
         List<HierarchicalConfiguration> xmls = jobXML.configurationsAt("job");
         List<JobStatusTreeNode> childNodes = new ArrayList<JobStatusTreeNode>();
         if (xmls != null) {
             for (HierarchicalConfiguration xml : xmls) {
                 JobStatusTreeNode child = loadTreeNode(
-                        jobStatus, xml, suiteName, store);
+                        jobStatus, xml, statuses);
                 if (child != null) {
                     childNodes.add(child);
                 }
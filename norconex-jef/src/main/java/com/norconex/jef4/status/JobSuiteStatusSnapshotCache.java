@@ -0,0 +1,228 @@
+/* Copyright 2026 Norconex Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.norconex.jef4.status;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Caches job suite status snapshots loaded from suite index files, for
+ * callers monitoring a job suite from outside the process running it.
+ * A cached snapshot is revalidated once it gets older than the requested
+ * maximum age.  When the suite index file has changed, the snapshot
+ * is loaded again entirely.  Otherwise, only job statuses modified
+ * since they were last read are read again from the job status store
+ * (when the store supports it, see
+ * {@link AbstractJobStatusStore#getLastModified(String, String)}).
+ * <br><br>
+ * The number of cached snapshots is bounded.  When exceeded, snapshots
+ * of the least recently requested suites are evicted.
+ * <br><br>
+ * This class is thread-safe.
+ * @author agent
+ * @since 4.1.0
+ */
+public class JobSuiteStatusSnapshotCache {
+
+    /** Default maximum age of a cached snapshot, in milliseconds. */
+    public static final long DEFAULT_MAX_AGE = 1000;
+    /** Default maximum number of cached snapshots. */
+    public static final int DEFAULT_MAX_SNAPSHOTS = 100;
+
+    // File modification times are not always precise to the millisecond.
+    // Statuses modified this recently are always read again to be safe.
+    private static final long UNSTABLE_MODIFIED_WINDOW = 2000;
+
+    // Access-ordered, guarded by itself
+    private final Map<String, CachedSnapshot> snapshots;
+
+    public JobSuiteStatusSnapshotCache() {
+        this(DEFAULT_MAX_SNAPSHOTS);
+    }
+    /**
+     * Creates a cache holding at most the given number of snapshots.
+     * @param maxSnapshots maximum number of cached snapshots
+     */
+    public JobSuiteStatusSnapshotCache(final int maxSnapshots) {
+        super();
+        if (maxSnapshots < 1) {
+            throw new IllegalArgumentException(
+                    "Maximum number of snapshots must be at least 1.");
+        }
+        this.snapshots = new LinkedHashMap<String, CachedSnapshot>(
+                16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+            @Override
+            protected boolean removeEldestEntry(
+                    Map.Entry<String, CachedSnapshot> eldest) {
+                return size() > maxSnapshots;
+            }
+        };
+    }
+
+    /**
+     * Gets a snapshot for the given suite index file, revalidated if
+     * older than {@link #DEFAULT_MAX_AGE}.
+     * @param suiteIndex suite index file
+     * @return snapshot or <code>null</code> if the index does not exist
+     * @throws IOException problem loading the snapshot
+     */
+    public JobSuiteStatusSnapshot getSnapshot(File suiteIndex)
+            throws IOException {
+        return getSnapshot(suiteIndex, DEFAULT_MAX_AGE);
+    }
+
+    /**
+     * Gets a snapshot for the given suite index file, revalidated if
+     * older than the given maximum age.
+     * @param suiteIndex suite index file
+     * @param maxAge maximum age in milliseconds of a snapshot before it
+     *        gets revalidated. Zero or less always revalidates.
+     * @return snapshot or <code>null</code> if the index does not exist
+     * @throws IOException problem loading the snapshot
+     */
+    public JobSuiteStatusSnapshot getSnapshot(File suiteIndex, long maxAge)
+            throws IOException {
+        if (suiteIndex == null) {
+            throw new IllegalArgumentException(
+                    "Suite index file cannot be null.");
+        }
+        String key = suiteIndex.getAbsolutePath();
+        CachedSnapshot cached;
+        synchronized (snapshots) {
+            cached = snapshots.get(key);
+            if (cached == null) {
+                cached = new CachedSnapshot(suiteIndex);
+                snapshots.put(key, cached);
+            }
+        }
+        // Loaded outside the lock so suites do not wait on each other
+        return cached.get(maxAge);
+    }
+
+    /**
+     * Removes the cached snapshot for the given suite index file, if any.
+     * @param suiteIndex suite index file
+     */
+    public void invalidate(File suiteIndex) {
+        synchronized (snapshots) {
+            snapshots.remove(suiteIndex.getAbsolutePath());
+        }
+    }
+
+    /**
+     * Removes all cached snapshots.
+     */
+    public void clear() {
+        synchronized (snapshots) {
+            snapshots.clear();
+        }
+    }
+
+    private static class CachedSnapshot {
+        private final File suiteIndex;
+        private JobSuiteStatusSnapshot snapshot;
+        private long indexLastModified;
+        private long indexLength;
+        private final Map<String, Long> jobsLastModified = new HashMap<>();
+        private long validated;
+
+        public CachedSnapshot(File suiteIndex) {
+            super();
+            this.suiteIndex = suiteIndex;
+        }
+
+        public synchronized JobSuiteStatusSnapshot get(long maxAge)
+                throws IOException {
+            long now = System.currentTimeMillis();
+            if (validated > 0 && now - validated < maxAge) {
+                return snapshot;
+            }
+            if (snapshot == null
+                    || suiteIndex.lastModified() != indexLastModified
+                    || suiteIndex.length() != indexLength) {
+                load();
+            } else {
+                refresh(now);
+            }
+            if (snapshot != null) {
+                snapshot.applyHeartbeat();
+            }
+            validated = now;
+            return snapshot;
+        }
+
+        private void load() throws IOException {
+            // Read index attributes first so an index changing while
+            // being loaded gets reloaded on next validation.
+            indexLastModified = suiteIndex.lastModified();
+            indexLength = suiteIndex.length();
+            jobsLastModified.clear();
+            long loadStart = System.currentTimeMillis();
+            snapshot = JobSuiteStatusSnapshot.newSnapshot(suiteIndex);
+            if (snapshot == null) {
+                return;
+            }
+            for (IJobStatus status : snapshot.getJobStatusList()) {
+                String jobId = status.getJobId();
+                long lastModified = getLastModified(jobId);
+                // Statuses possibly modified while loading are left out
+                // so they get read again on next validation.
+                if (lastModified >= 0 && lastModified
+                        < loadStart - UNSTABLE_MODIFIED_WINDOW) {
+                    jobsLastModified.put(jobId, lastModified);
+                }
+            }
+        }
+
+        private void refresh(long now) throws IOException {
+            List<String> modifiedJobIds = new ArrayList<>();
+            Map<String, Long> lastModifiedTimes = new HashMap<>();
+            for (IJobStatus status : snapshot.getJobStatusList()) {
+                String jobId = status.getJobId();
+                long lastModified = getLastModified(jobId);
+                Long cachedLastModified = jobsLastModified.get(jobId);
+                if (lastModified < 0 || cachedLastModified == null
+                        || cachedLastModified != lastModified
+                        || now - lastModified < UNSTABLE_MODIFIED_WINDOW) {
+                    modifiedJobIds.add(jobId);
+                    lastModifiedTimes.put(jobId, lastModified);
+                }
+            }
+            if (modifiedJobIds.isEmpty()) {
+                return;
+            }
+            Map<String, IJobStatus> statuses = JobSuiteStatusSnapshot.readAll(
+                    snapshot.getStatusStore(), snapshot.getSuiteName(),
+                    modifiedJobIds);
+            snapshot = snapshot.withJobStatuses(statuses);
+            jobsLastModified.putAll(lastModifiedTimes);
+        }
+
+        private long getLastModified(String jobId) throws IOException {
+            IJobStatusStore store = snapshot.getStatusStore();
+            if (store instanceof AbstractJobStatusStore) {
+                return ((AbstractJobStatusStore) store).getLastModified(
+                        snapshot.getSuiteName(), jobId);
+            }
+            return -1;
+        }
+    }
+}
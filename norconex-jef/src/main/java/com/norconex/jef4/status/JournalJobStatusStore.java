@@ -0,0 +1,898 @@
+/* Copyright 2026 Norconex Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.norconex.jef4.status;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+
+import org.apache.commons.configuration.XMLConfiguration;
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.io.IOUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.log4j.LogManager;
+import org.apache.log4j.Logger;
+
+import com.norconex.commons.lang.config.ConfigurationUtil;
+import com.norconex.commons.lang.file.FileUtil;
+import com.norconex.commons.lang.map.Properties;
+import com.norconex.jef4.JEFException;
+import com.norconex.jef4.JEFUtil;
+import com.norconex.jef4.job.JobException;
+import com.norconex.jef4.status.FileJobStatusStore.FsyncPolicy;
+
+/**
+ * Status store appending compact binary status records to a single
+ * memory-mapped journal file per suite, instead of maintaining one file
+ * per job like {@link FileJobStatusStore}.  Suites made of many jobs
+ * benefit from not having to create, open and close one file for every
+ * status update.  The journal file name matches the suite name, plus
+ * the ".journal" extension.
+ * <br><br>
+ * The latest status of each job is rebuilt by scanning the journal
+ * sequentially.  Readers remember how far they scanned, so subsequent
+ * reads only scan records appended since.  When the journal gets full,
+ * it is compacted to keep only the latest record of each job before
+ * it is allowed to grow.  A record is only visible to readers once
+ * entirely written, so a killed process cannot leave partial records.
+ * Surviving an operating system crash or power loss also requires
+ * records to be forced to disk, as controlled with
+ * {@link #setFsyncPolicy(FsyncPolicy)}.
+ * <br><br>
+ * Only one process should write to a given suite journal at once,
+ * which is already the case for a running job suite.  Journals written
+ * to are kept open and mapped until released, which job suites do when
+ * they end.  Call {@link #close()} to release all journals.
+ * @author agent
+ * @since 4.1.0
+ */
+@SuppressWarnings("nls")
+public class JournalJobStatusStore extends AbstractJobStatusStore
+        implements Closeable {
+
+    private static final Logger LOG =
+            LogManager.getLogger(JournalJobStatusStore.class);
+
+    private static final String JOURNAL_SUFFIX = ".journal";
+    private static final int MAGIC = 0x4A45464A; // "JEFJ"
+    private static final int FORMAT_VERSION = 1;
+    /** Magic (int), format version (int), generation (long). */
+    private static final int HEADER_SIZE = 16;
+    /** Record length (int), record checksum (int). */
+    private static final int RECORD_HEADER_SIZE = 8;
+    private static final int INITIAL_CAPACITY = 256 * 1024;
+    /** Compact when more than this many records per live job. */
+    private static final int COMPACTION_RATIO = 4;
+
+    private static final byte TYPE_STATUS = 1;
+    private static final byte TYPE_TOUCH = 2;
+    private static final byte TYPE_REMOVE = 3;
+    private static final long NULL_DATE = -1;
+
+    private final Map<String, Journal> journals = new HashMap<>();
+
+    private String jobdirLatest;
+    private String jobdirBackupBase;
+    private String statusDir;
+    private volatile FsyncPolicy fsyncPolicy = FsyncPolicy.NEVER;
+
+    private boolean needToResolveDirs = true;
+
+    public JournalJobStatusStore() {
+        super();
+    }
+    /**
+     * Creates a journal-based job status store storing journals in the
+     * given directory.
+     * @param statusDir the base directory where to store status journals
+     */
+    public JournalJobStatusStore(final String statusDir) {
+        this.statusDir = statusDir;
+    }
+
+    public String getStatusDirectory() {
+        return statusDir;
+    }
+    public synchronized void setStatusDirectory(String statusDirectory) {
+        this.statusDir = statusDirectory;
+        this.needToResolveDirs = true;
+        closeJournals();
+    }
+    /**
+     * Gets when written records are forced to disk.
+     * @return fsync policy
+     */
+    public FsyncPolicy getFsyncPolicy() {
+        return fsyncPolicy;
+    }
+    /**
+     * Sets when written records are forced to disk.  With
+     * {@link FsyncPolicy#ON_STATE_CHANGE}, removals and backups are
+     * considered state changes.  Compacted journals are forced to disk
+     * unless the policy is {@link FsyncPolicy#NEVER}.
+     * Default is {@link FsyncPolicy#NEVER}.
+     * @param fsyncPolicy fsync policy
+     */
+    public void setFsyncPolicy(FsyncPolicy fsyncPolicy) {
+        if (fsyncPolicy == null) {
+            this.fsyncPolicy = FsyncPolicy.NEVER;
+        } else {
+            this.fsyncPolicy = fsyncPolicy;
+        }
+    }
+
+    @Override
+    public void write(String suiteName, IJobStatus jobStatus)
+            throws IOException {
+        Journal journal = getJournal(suiteName);
+        synchronized (journal) {
+            journal.append(toStatusRecord(jobStatus));
+            if (stateChanged(journal, jobStatus)
+                    || fsyncPolicy == FsyncPolicy.ALWAYS) {
+                journal.force();
+            }
+        }
+    }
+
+    @Override
+    public IJobStatus read(String suiteName, String jobId)
+            throws IOException {
+        Journal journal = getJournal(suiteName);
+        synchronized (journal) {
+            journal.refresh();
+            return toJobStatus(jobId, journal.entries.get(jobId));
+        }
+    }
+
+    /**
+     * Reads many job statuses with a single scan of the journal.
+     */
+    @Override
+    public Map<String, IJobStatus> readAll(
+            String suiteName, Collection<String> jobIds) throws IOException {
+        Map<String, IJobStatus> statuses = new LinkedHashMap<>();
+        Journal journal = getJournal(suiteName);
+        synchronized (journal) {
+            journal.refresh();
+            for (String jobId : jobIds) {
+                statuses.put(jobId, 
+                        toJobStatus(jobId, journal.entries.get(jobId)));
+            }
+        }
+        return statuses;
+    }
+
+    @Override
+    public void remove(String suiteName, String jobId) throws IOException {
+        Journal journal = getJournal(suiteName);
+        synchronized (journal) {
+            journal.append(toRecord(TYPE_REMOVE, jobId, null));
+            if (fsyncPolicy != FsyncPolicy.NEVER) {
+                journal.force();
+            }
+        }
+    }
+
+    @Override
+    public void backup(String suiteName, String jobId, Date backupDate)
+            throws IOException {
+        Journal journal = getJournal(suiteName);
+        synchronized (journal) {
+            journal.refresh();
+            Entry entry = journal.entries.get(jobId);
+            if (entry == null) {
+                return;
+            }
+            File backupFile = getBackupFile(suiteName, backupDate);
+            boolean isNew = !backupFile.exists();
+            DataOutputStream out = new DataOutputStream(
+                    new FileOutputStream(backupFile, true));
+            try {
+                if (isNew) {
+                    writeHeader(out, 0);
+                }
+                if (entry.statusRecord != null) {
+                    writeRecord(out, entry.statusRecord);
+                }
+                writeRecord(out, toTouchRecord(jobId, entry.lastActivity));
+            } finally {
+                IOUtils.closeQuietly(out);
+            }
+            journal.append(toRecord(TYPE_REMOVE, jobId, null));
+            if (fsyncPolicy != FsyncPolicy.NEVER) {
+                journal.force();
+            }
+        }
+    }
+
+    @Override
+    public long touch(String suiteName, String jobId) throws IOException {
+        long now = System.currentTimeMillis();
+        Journal journal = getJournal(suiteName);
+        synchronized (journal) {
+            journal.append(toTouchRecord(jobId, now));
+            if (fsyncPolicy == FsyncPolicy.ALWAYS) {
+                journal.force();
+            }
+        }
+        return now;
+    }
+
+    /**
+     * Gets the time of the last record written for a job.
+     * Returns <code>-1</code> for jobs without records.
+     */
+    @Override
+    public long getLastModified(String suiteName, String jobId)
+            throws IOException {
+        Journal journal = getJournal(suiteName);
+        synchronized (journal) {
+            journal.refresh();
+            Entry entry = journal.entries.get(jobId);
+            if (entry == null) {
+                return -1;
+            }
+            return entry.lastActivity;
+        }
+    }
+
+    /**
+     * Rewrites the journal of the given suite so it only holds the latest
+     * record of each job.  Compaction normally happens automatically
+     * when the journal gets full.
+     * @param suiteName suite name
+     * @throws IOException problem compacting the journal
+     */
+    public void compact(String suiteName) throws IOException {
+        Journal journal = getJournal(suiteName);
+        synchronized (journal) {
+            journal.openForWrite();
+            journal.compact();
+        }
+    }
+
+    /**
+     * Unmaps and closes the journal of the given suite, if opened for
+     * writing.  The journal gets opened again if written to afterwards.
+     */
+    @Override
+    public void release(String suiteName) {
+        Journal journal;
+        synchronized (this) {
+            journal = journals.get(suiteName);
+        }
+        if (journal != null) {
+            synchronized (journal) {
+                journal.close();
+            }
+        }
+    }
+
+    /**
+     * Unmaps and closes all journals.  This store can still be used
+     * afterwards, opening journals again as needed.
+     */
+    @Override
+    public void close() {
+        closeJournals();
+    }
+
+    private synchronized void closeJournals() {
+        for (Journal journal : journals.values()) {
+            synchronized (journal) {
+                journal.close();
+            }
+        }
+        journals.clear();
+    }
+
+    /**
+     * Gets the journal file used to store job statuses of a suite.
+     * @param suiteName suite name
+     * @return journal file
+     */
+    public File getJournalFile(String suiteName) {
+        resolveDirsIfNeeded();
+        return new File(jobdirLatest + "/"
+                + FileUtil.toSafeFileName(suiteName) + JOURNAL_SUFFIX);
+    }
+
+    private boolean stateChanged(Journal journal, IJobStatus jobStatus) {
+        if (fsyncPolicy != FsyncPolicy.ON_STATE_CHANGE) {
+            return false;
+        }
+        Entry entry = journal.entries.get(jobStatus.getJobId());
+        int flags = stateFlags(jobStatus);
+        boolean changed = entry.stateFlags != flags;
+        entry.stateFlags = flags;
+        return changed;
+    }
+
+    private synchronized Journal getJournal(String suiteName) {
+        Journal journal = journals.get(suiteName);
+        if (journal == null) {
+            journal = new Journal(getJournalFile(suiteName));
+            journals.put(suiteName, journal);
+        }
+        return journal;
+    }
+
+    private synchronized void resolveDirsIfNeeded() {
+        // Leave now if we do not need to update dirs.
+        if (!needToResolveDirs) {
+            return;
+        }
+
+        // Status dir changed, update dirs
+        String path = statusDir;
+        if (StringUtils.isBlank(statusDir)) {
+            LOG.info("No status directory specified.");
+            path = JEFUtil.FALLBACK_WORKDIR.getAbsolutePath();
+        } else {
+            path = new File(path).getAbsolutePath();
+        }
+        LOG.debug("Status journal directory: " + path);
+        jobdirLatest = path + File.separatorChar
+                + "latest" + File.separatorChar + "status";
+        jobdirBackupBase = path + "/backup";
+        File dir = new File(jobdirLatest);
+        if (!dir.exists()) {
+            try {
+                FileUtils.forceMkdir(dir);
+            } catch (IOException e) {
+                throw new JEFException("Cannot create status directory: "
+                        + dir, e);
+            }
+        }
+        this.needToResolveDirs = false;
+    }
+
+    private File getBackupFile(String suiteName, Date backupDate) {
+        resolveDirsIfNeeded();
+        String date = new SimpleDateFormat(
+                "yyyyMMddHHmmssSSSS").format(backupDate);
+        File backupDir;
+        try {
+            backupDir = FileUtil.createDateDirs(
+                    new File(jobdirBackupBase), backupDate);
+        } catch (IOException e) {
+            throw new JobException("Could not create backup directory for "
+                    + "suite \"" + suiteName + "\".");
+        }
+        backupDir = new File(backupDir, "status");
+        if (!backupDir.exists()) {
+            try {
+                FileUtils.forceMkdir(backupDir);
+            } catch (IOException e) {
+                throw new JEFException("Cannot create backup directory: "
+                        + backupDir, e);
+            }
+        }
+        return new File(backupDir + "/" + date + "__"
+                + FileUtil.toSafeFileName(suiteName) + JOURNAL_SUFFIX);
+    }
+
+    @Override
+    public void loadFromXML(Reader in) throws IOException {
+        XMLConfiguration xml = ConfigurationUtil.newXMLConfiguration(in);
+        setStatusDirectory(xml.getString("statusDir", statusDir));
+        String policy = xml.getString("fsyncPolicy", null);
+        if (StringUtils.isNotBlank(policy)) {
+            setFsyncPolicy(FsyncPolicy.valueOf(
+                    StringUtils.upperCase(policy.trim())));
+        }
+    }
+
+    @Override
+    public void saveToXML(Writer out) throws IOException {
+        XMLOutputFactory factory = XMLOutputFactory.newInstance();
+        try {
+            XMLStreamWriter writer = factory.createXMLStreamWriter(out);
+            writer.writeStartElement("statusStore");
+            writer.writeAttribute("class", getClass().getCanonicalName());
+            writer.writeStartElement("statusDir");
+            writer.writeCharacters(new File(statusDir).getAbsolutePath());
+            writer.writeEndElement();
+            writer.writeStartElement("fsyncPolicy");
+            writer.writeCharacters(fsyncPolicy.name());
+            writer.writeEndElement();
+            writer.writeEndElement();
+            writer.flush();
+            writer.close();
+        } catch (XMLStreamException e) {
+            throw new IOException("Cannot save as XML.", e);
+        }
+    }
+
+    //--- Record encoding ------------------------------------------------------
+
+    private static byte[] toStatusRecord(IJobStatus status)
+            throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeByte(TYPE_STATUS);
+        writeString(out, status.getJobId());
+        out.writeLong(System.currentTimeMillis());
+        out.writeDouble(status.getProgress());
+        writeString(out, status.getNote());
+        out.writeInt(status.getResumeAttempts());
+        JobDuration duration = status.getDuration();
+        writeDate(out, duration.getResumedStartTime());
+        writeDate(out, duration.getResumedLastActivity());
+        writeDate(out, duration.getStartTime());
+        writeDate(out, duration.getEndTime());
+        out.writeBoolean(status.isStopping() || status.isStopped());
+        Properties props = status.getProperties();
+        out.writeInt(props.size());
+        for (Map.Entry<String, List<String>> en : props.entrySet()) {
+            writeString(out, en.getKey());
+            List<String> values = en.getValue();
+            out.writeInt(values == null ? 0 : values.size());
+            if (values != null) {
+                for (String value : values) {
+                    writeString(out, value);
+                }
+            }
+        }
+        out.flush();
+        return bytes.toByteArray();
+    }
+    private static byte[] toTouchRecord(String jobId, long time)
+            throws IOException {
+        return toRecord(TYPE_TOUCH, jobId, time);
+    }
+    private static byte[] toRecord(byte type, String jobId, Long time)
+            throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeByte(type);
+        writeString(out, jobId);
+        if (time != null) {
+            out.writeLong(time);
+        }
+        out.flush();
+        return bytes.toByteArray();
+    }
+
+    private static MutableJobStatus toJobStatus(String jobId, Entry entry) {
+        MutableJobStatus status = new MutableJobStatus(jobId);
+        if (entry == null) {
+            return status;
+        }
+        if (entry.statusRecord != null) {
+            ByteBuffer buf = ByteBuffer.wrap(entry.statusRecord);
+            buf.get(); // type
+            readString(buf); // job id
+            buf.getLong(); // write time
+            status.setProgress(buf.getDouble());
+            status.setNote(readString(buf));
+            status.setResumeAttempts(buf.getInt());
+            JobDuration duration = new JobDuration();
+            duration.setResumedStartTime(readDate(buf));
+            duration.setResumedLastActivity(readDate(buf));
+            duration.setStartTime(readDate(buf));
+            duration.setEndTime(readDate(buf));
+            status.setDuration(duration);
+            status.setStopRequested(buf.get() != 0);
+            Properties props = status.getProperties();
+            int propCount = buf.getInt();
+            for (int i = 0; i < propCount; i++) {
+                String key = readString(buf);
+                int valueCount = buf.getInt();
+                List<String> values = new ArrayList<>(valueCount);
+                for (int j = 0; j < valueCount; j++) {
+                    values.add(readString(buf));
+                }
+                props.put(key, values);
+            }
+        }
+        if (entry.lastActivity > 0) {
+            status.setLastActivityMillis(entry.lastActivity);
+        }
+        return status;
+    }
+
+    private static void writeString(DataOutputStream out, String str)
+            throws IOException {
+        if (str == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] bytes = str.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+    private static String readString(ByteBuffer buf) {
+        int length = buf.getInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        buf.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+    private static void writeDate(DataOutputStream out, Date date)
+            throws IOException {
+        out.writeLong(date == null ? NULL_DATE : date.getTime());
+    }
+    private static Date readDate(ByteBuffer buf) {
+        long time = buf.getLong();
+        if (time == NULL_DATE) {
+            return null;
+        }
+        return new Date(time);
+    }
+
+    private static void writeHeader(DataOutputStream out, long generation)
+            throws IOException {
+        out.writeInt(MAGIC);
+        out.writeInt(FORMAT_VERSION);
+        out.writeLong(generation);
+    }
+    private static void writeRecord(DataOutputStream out, byte[] record)
+            throws IOException {
+        out.writeInt(record.length);
+        out.writeInt(checksum(record));
+        out.write(record);
+    }
+    private static int checksum(byte[] record) {
+        CRC32 crc = new CRC32();
+        crc.update(record, 0, record.length);
+        return (int) crc.getValue();
+    }
+
+    /**
+     * Releases a mapped buffer right away instead of waiting for it to
+     * be garbage collected, which keeps the file mapped (and on some
+     * systems locked) meanwhile.  The buffer must no longer be used.
+     * There is no public API for this, so it is done on a best effort
+     * basis and left to the garbage collector when not supported.
+     */
+    private static void unmap(ByteBuffer buffer) {
+        if (buffer == null || !buffer.isDirect()) {
+            return;
+        }
+        try {
+            // Java 9 and up
+            Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            Method invokeCleaner = unsafeClass.getMethod(
+                    "invokeCleaner", ByteBuffer.class);
+            Field theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+            theUnsafe.setAccessible(true);
+            invokeCleaner.invoke(theUnsafe.get(null), buffer);
+            return;
+        } catch (NoSuchMethodException e) {
+            // Java 8 and lower, try below
+        } catch (Exception e) {
+            LOG.debug("Could not unmap status journal buffer.", e);
+            return;
+        }
+        try {
+            Method cleanerMethod = buffer.getClass().getMethod("cleaner");
+            cleanerMethod.setAccessible(true);
+            Object cleaner = cleanerMethod.invoke(buffer);
+            if (cleaner != null) {
+                Method clean = cleaner.getClass().getMethod("clean");
+                clean.setAccessible(true);
+                clean.invoke(cleaner);
+            }
+        } catch (Exception e) {
+            LOG.debug("Could not unmap status journal buffer.", e);
+        }
+    }
+
+    //--- Journal --------------------------------------------------------------
+
+    /** Latest known state of a job. */
+    private static class Entry {
+        private byte[] statusRecord;
+        private long lastActivity;
+        // Last state flags written by this instance, -1 if unknown
+        private int stateFlags = -1;
+    }
+
+    /**
+     * A suite journal.  Not thread-safe: callers must synchronize on it.
+     * A journal is read-only until its first write.
+     */
+    private class Journal {
+        private final File file;
+        private final Map<String, Entry> entries = new HashMap<>();
+        private long generation = -1;
+        private int position;
+        private int recordCount;
+        // Only set once opened for writing
+        private FileChannel channel;
+        private MappedByteBuffer buffer;
+
+        public Journal(File file) {
+            super();
+            this.file = file;
+        }
+
+        /**
+         * Reads records appended since the last refresh.  A journal opened
+         * for writing is always up-to-date.
+         */
+        public void refresh() throws IOException {
+            if (buffer != null) {
+                return;
+            }
+            if (!file.exists()) {
+                reset(-1);
+                return;
+            }
+            try (FileChannel ch = FileChannel.open(
+                    file.toPath(), StandardOpenOption.READ)) {
+                long size = ch.size();
+                if (size < HEADER_SIZE) {
+                    reset(-1);
+                    return;
+                }
+                MappedByteBuffer buf = ch.map(MapMode.READ_ONLY, 0, size);
+                try {
+                    long gen = readGeneration(buf);
+                    if (gen != generation) {
+                        // New or compacted journal: start over
+                        reset(gen);
+                        position = HEADER_SIZE;
+                    }
+                    position = scan(buf, position);
+                } finally {
+                    // Scanned records are copied, the buffer is not kept
+                    unmap(buf);
+                }
+            }
+        }
+
+        public void openForWrite() throws IOException {
+            if (buffer != null) {
+                return;
+            }
+            refresh();
+            if (generation < 0) {
+                createEmpty(0);
+                reset(0);
+                position = HEADER_SIZE;
+            }
+            map(Math.max(INITIAL_CAPACITY,
+                    Math.max(file.length(), (long) position * 2)));
+        }
+
+        public void append(byte[] record) throws IOException {
+            openForWrite();
+            // record + room to zero the next record length
+            int needed = RECORD_HEADER_SIZE + record.length + 4;
+            if (position + needed > buffer.capacity()) {
+                if (recordCount > COMPACTION_RATIO * entries.size()) {
+                    compact();
+                }
+                if (position + needed > buffer.capacity()) {
+                    map(Math.max((long) buffer.capacity() * 2,
+                            (long) position + needed));
+                }
+            }
+            buffer.position(position + RECORD_HEADER_SIZE);
+            buffer.put(record);
+            // Zeroing the next length ensures readers stop after this record
+            // even if it overwrites leftovers of an interrupted write.
+            buffer.putInt(position + RECORD_HEADER_SIZE + record.length, 0);
+            buffer.putInt(position + 4, checksum(record));
+            // Writing the length last makes the record visible to readers.
+            buffer.putInt(position, record.length);
+            position += RECORD_HEADER_SIZE + record.length;
+            apply(record);
+        }
+
+        /**
+         * Forces appended records to disk.
+         */
+        public void force() {
+            if (buffer != null) {
+                buffer.force();
+            }
+        }
+
+        public void compact() throws IOException {
+            File tempFile = new File(file.getPath() + ".compact");
+            FileOutputStream fos = new FileOutputStream(tempFile);
+            DataOutputStream out = new DataOutputStream(fos);
+            boolean sync = fsyncPolicy != FsyncPolicy.NEVER;
+            int count = 0;
+            try {
+                writeHeader(out, generation + 1);
+                for (Map.Entry<String, Entry> en : entries.entrySet()) {
+                    Entry entry = en.getValue();
+                    if (entry.statusRecord != null) {
+                        writeRecord(out, entry.statusRecord);
+                        count++;
+                    }
+                    writeRecord(out, toTouchRecord(
+                            en.getKey(), entry.lastActivity));
+                    count++;
+                }
+                out.flush();
+                if (sync) {
+                    fos.getFD().sync();
+                }
+            } finally {
+                IOUtils.closeQuietly(out);
+            }
+            long compactedSize = tempFile.length();
+            closeChannel();
+            try {
+                try {
+                    Files.move(tempFile.toPath(), file.toPath(),
+                            StandardCopyOption.ATOMIC_MOVE);
+                } catch (AtomicMoveNotSupportedException e) {
+                    Files.move(tempFile.toPath(), file.toPath(),
+                            StandardCopyOption.REPLACE_EXISTING);
+                }
+                if (sync) {
+                    syncDirectory();
+                }
+                generation++;
+                position = (int) compactedSize;
+                recordCount = count;
+                if (LOG.isDebugEnabled()) {
+                    LOG.debug("Compacted status journal: " + file);
+                }
+            } catch (IOException e) {
+                // e.g., a mapped file cannot be replaced on some systems
+                LOG.warn("Could not compact status journal: " + file, e);
+                Files.deleteIfExists(tempFile.toPath());
+            }
+            map(Math.max(INITIAL_CAPACITY, (long) position * 2));
+        }
+
+        private void map(long capacity) throws IOException {
+            if (capacity > Integer.MAX_VALUE) {
+                throw new IOException(
+                        "Status journal too large: " + file);
+            }
+            if (channel == null) {
+                channel = FileChannel.open(file.toPath(),
+                        StandardOpenOption.READ, StandardOpenOption.WRITE);
+            }
+            MappedByteBuffer previous = buffer;
+            buffer = channel.map(MapMode.READ_WRITE, 0, capacity);
+            unmap(previous);
+        }
+
+        private void closeChannel() {
+            unmap(buffer);
+            IOUtils.closeQuietly(channel);
+            channel = null;
+            buffer = null;
+        }
+
+        /**
+         * Closes this journal, which gets scanned again on next use.
+         */
+        public void close() {
+            if (buffer != null) {
+                closeChannel();
+                reset(-1);
+            }
+        }
+
+        private void syncDirectory() {
+            try (FileChannel dir = FileChannel.open(
+                    file.getParentFile().toPath(), StandardOpenOption.READ)) {
+                dir.force(true);
+            } catch (IOException e) {
+                // Some platforms (e.g. Windows) cannot open directories.
+                LOG.debug("Could not sync status directory of: " + file, e);
+            }
+        }
+
+        private void createEmpty(long gen) throws IOException {
+            DataOutputStream out = new DataOutputStream(
+                    new FileOutputStream(file));
+            try {
+                writeHeader(out, gen);
+            } finally {
+                IOUtils.closeQuietly(out);
+            }
+        }
+
+        private void reset(long gen) {
+            entries.clear();
+            generation = gen;
+            position = 0;
+            recordCount = 0;
+        }
+
+        private long readGeneration(ByteBuffer buf) throws IOException {
+            if (buf.getInt(0) != MAGIC || buf.getInt(4) != FORMAT_VERSION) {
+                throw new IOException("Not a valid status journal: " + file);
+            }
+            return buf.getLong(8);
+        }
+
+        private int scan(ByteBuffer buf, int start) {
+            int pos = start;
+            int limit = buf.limit();
+            while (pos + RECORD_HEADER_SIZE <= limit) {
+                int length = buf.getInt(pos);
+                if (length <= 0
+                        || pos + RECORD_HEADER_SIZE + length > limit) {
+                    break;
+                }
+                byte[] record = new byte[length];
+                buf.position(pos + RECORD_HEADER_SIZE);
+                buf.get(record);
+                if (checksum(record) != buf.getInt(pos + 4)) {
+                    LOG.warn("Ignoring corrupted status journal record at "
+                            + "offset " + pos + ": " + file);
+                    break;
+                }
+                apply(record);
+                pos += RECORD_HEADER_SIZE + length;
+            }
+            return pos;
+        }
+
+        private void apply(byte[] record) {
+            recordCount++;
+            ByteBuffer buf = ByteBuffer.wrap(record);
+            byte type = buf.get();
+            String jobId = readString(buf);
+            if (type == TYPE_REMOVE) {
+                entries.remove(jobId);
+                return;
+            }
+            Entry entry = entries.get(jobId);
+            if (entry == null) {
+                entry = new Entry();
+                entries.put(jobId, entry);
+            }
+            long time = buf.getLong();
+            if (type == TYPE_STATUS) {
+                entry.statusRecord = record;
+            }
+            entry.lastActivity = Math.max(entry.lastActivity, time);
+        }
+    }
+}
@@ -14,28 +14,52 @@
  */
 package com.norconex.jef4.status;
 
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
 import java.util.Date;
-
-import org.apache.commons.lang3.ObjectUtils;
+import java.util.List;
+import java.util.Map;
 
 import com.norconex.commons.lang.map.Properties;
 
+/**
+ * Mutable job status.  As of 4.1.0, times are held as epoch milliseconds
+ * and the job state is established when the status changes rather than
+ * every time it is read, so reading the state of a job creates no objects.
+ * <br><br>
+ * Also as of 4.1.0, this class is thread-safe.  Each value is always
+ * read as last written by any thread, without locking.  Changes are
+ * serialized, and {@link #snapshot()} gives a consistent copy of all
+ * values without blocking threads changing them.  Job properties are
+ * the exception: they are not thread-safe and should only be modified
+ * by the job owning this status.
+ */
 public class MutableJobStatus implements IJobStatus {
 
     /** Activity timeout. */
     private static final long ACTIVITY_TIMEOUT = 10 * 1000;
+
+    // Snapshot attempts before locking out changes
+    private static final int MAX_OPTIMISTIC_READS = 16;
     
     private final String jobId;
-    private double progress;
-    private String note;
-    private int resumeAttempts;
-    private JobDuration duration = new JobDuration();
-    private Properties properties = new Properties();
-    private Date lastActivity;
-    private boolean stopRequested;
+    private volatile double progress;
+    private volatile String note;
+    private volatile int resumeAttempts;
+    private volatile JobDuration duration = new JobDuration();
+    private final Properties properties = new Properties();
+    private volatile long lastActivity = -1;
+    private volatile boolean stopRequested;
+
+    // Changes are made holding the lock.  The version is odd while a
+    // change is being made, and incremented again once it is made.
+    private final Object lock = new Object();
+    private volatile long version;
+    private volatile StateCache stateCache;
 
     public MutableJobStatus(String jobId) {
         this.jobId = jobId;
+        this.stateCache = new StateCache(this);
     }
 
     @Override
@@ -50,14 +74,37 @@ public class MutableJobStatus implements IJobStatus {
      */
     @Override
     public JobState getState() {
+        StateCache cache = stateCache;
+        // Job duration is modified directly by job suites.  The cache is
+        // rebuilt holding the lock so it never replaces a newer one.
+        if (cache.isStale(duration)) {
+            synchronized (lock) {
+                cache = stateCache;
+                if (cache.isStale(duration)) {
+                    cache = new StateCache(this);
+                    stateCache = cache;
+                }
+            }
+        }
+        if (cache.activeState == cache.inactiveState) {
+            return cache.activeState;
+        }
+        return isRunning() ? cache.activeState : cache.inactiveState;
+    }
 
+    private JobState resolveState(JobDuration duration, boolean running) {
+        boolean started = duration.getStartTimeMillis() != -1;
+        boolean ended = duration.getEndTimeMillis() != -1;
+        boolean completed = isCompleted();
         // The order is important to establish status
-        if (isAborted())   { return JobState.ABORTED;   }
-        if (isStopped())   { return JobState.STOPPED;   }
-        if (isStopping())   { return JobState.STOPPING;   }
-        if (isCompleted()) { return JobState.COMPLETED; }
-        if (isPrematurlyEnded())  { return JobState.PREMATURE_TERMINATION;  }
-        if (isRunning())   { return JobState.RUNNING;   }
+        if (started && !running && !ended && !completed) {
+            return JobState.ABORTED;
+        }
+        if (stopRequested && !running) { return JobState.STOPPED;   }
+        if (stopRequested && running)  { return JobState.STOPPING;  }
+        if (completed)                 { return JobState.COMPLETED; }
+        if (ended) { return JobState.PREMATURE_TERMINATION; }
+        if (running)                   { return JobState.RUNNING;   }
         return JobState.UNKNOWN;
     }
 
@@ -76,7 +123,11 @@ public class MutableJobStatus implements IJobStatus {
         return stopRequested;
     }
     public void setStopRequested(boolean stopRequested) {
-        this.stopRequested = stopRequested;
+        synchronized (lock) {
+            beginChange();
+            this.stopRequested = stopRequested;
+            endChange();
+        }
     }
 
     /**
@@ -97,7 +148,7 @@ public class MutableJobStatus implements IJobStatus {
      */
     @Override
     public boolean isStarted() {
-        return duration.getStartTime() != null;
+        return getDuration().getStartTimeMillis() != -1;
     }
     /**
      * Checks whether the job ended before its time. This may or may not
@@ -108,7 +159,7 @@ public class MutableJobStatus implements IJobStatus {
     //TODO fix method typo (PrematurEly).
     @Override
     public boolean isPrematurlyEnded() {
-        return duration.getEndTime() != null && !isCompleted();
+        return getDuration().getEndTimeMillis() != -1 && !isCompleted();
     }
     /**
      * Checks whether the job execution has completed.
@@ -131,23 +182,23 @@ public class MutableJobStatus implements IJobStatus {
     @Override
     public boolean isAborted() {
         return isStarted() && !isRunning() 
-                && duration.getEndTime() == null 
+                && getDuration().getEndTimeMillis() == -1 
                 && !isCompleted();
     }
     
     /**
      * Checks whether the job execution represented by this progress is still
-     * running.
+     * running.  As of 4.1.0, a job having an end time is no longer 
+     * considered running, regardless of its last activity.
      * @return <code>true</code> if still running
      */
     @Override
     public boolean isRunning() {
-        Date date = lastActivity;
-        if (date == null) {
+        long activity = lastActivity;
+        if (activity == -1 || getDuration().getEndTimeMillis() != -1) {
             return false;
         }
-        return (System.currentTimeMillis() - date.getTime())
-                < ACTIVITY_TIMEOUT;
+        return (System.currentTimeMillis() - activity) < ACTIVITY_TIMEOUT;
     }
     
     /**
@@ -189,30 +240,63 @@ public class MutableJobStatus implements IJobStatus {
     }
 
     public void setProgress(double progress) {
-        this.progress = progress;
+        synchronized (lock) {
+            beginChange();
+            this.progress = progress;
+            endChange();
+        }
     }
     
     public void setNote(String note) {
-        this.note = note;
+        synchronized (lock) {
+            beginChange();
+            this.note = note;
+            endChange();
+        }
     }
     
     public void setDuration(JobDuration duration) {
-        this.duration = duration;
+        synchronized (lock) {
+            beginChange();
+            this.duration = duration;
+            endChange();
+        }
     }
 
     /**
      * Gets the last activity.
      * @return last activity
      */
+    @Override
     public Date getLastActivity() {
-        return ObjectUtils.clone(lastActivity);
+        if (lastActivity == -1) {
+            return null;
+        }
+        return new Date(lastActivity);
     }
     /**
      * Sets the last activity.
      * @param lastActivity last activity
      */
     public void setLastActivity(final Date lastActivity) {
-        this.lastActivity = ObjectUtils.clone(lastActivity);
+        setLastActivityMillis(
+                lastActivity == null ? -1 : lastActivity.getTime());
+    }
+    /**
+     * Gets the last activity in epoch milliseconds.
+     * @return last activity or -1 if there was no activity
+     * @since 4.1.0
+     */
+    public long getLastActivityMillis() {
+        return lastActivity;
+    }
+    /**
+     * Sets the last activity in epoch milliseconds.
+     * @param lastActivity last activity or -1 for no activity
+     * @since 4.1.0
+     */
+    public void setLastActivityMillis(long lastActivity) {
+        this.lastActivity = lastActivity;
     }
     
     @Override
@@ -220,10 +304,111 @@ public class MutableJobStatus implements IJobStatus {
         return resumeAttempts;
     }
     public void setResumeAttempts(int resumeAttempts) {
-        this.resumeAttempts = resumeAttempts;
+        synchronized (lock) {
+            beginChange();
+            this.resumeAttempts = resumeAttempts;
+            endChange();
+        }
     }
     
     public void incrementResumeAttempts() {
-        resumeAttempts++;        
+        synchronized (lock) {
+            beginChange();
+            resumeAttempts++;
+            endChange();
+        }
+    }
+
+    /**
+     * Gets the number of changes made to this status values since it was
+     * created, excluding last activity updates, job properties, and
+     * changes made directly to its {@link JobDuration}.
+     * @return status version
+     * @since 4.1.0
+     */
+    public long getVersion() {
+        return version >>> 1;
+    }
+
+    /**
+     * Gets a copy of this status, consistent with the last change made
+     * to it.  Copying does not prevent other threads from changing
+     * this status, unless it keeps getting changed while being copied.
+     * @return job status copy
+     * @since 4.1.0
+     */
+    public MutableJobStatus snapshot() {
+        for (int i = 0; i < MAX_OPTIMISTIC_READS; i++) {
+            long startVersion = version;
+            if ((startVersion & 1) == 0) {
+                JobDuration d = duration;
+                int modCount = d.getModCount();
+                MutableJobStatus copy = copy(d, startVersion);
+                if (version == startVersion && d.getModCount() == modCount) {
+                    return copy;
+                }
+            }
+            Thread.yield();
+        }
+        synchronized (lock) {
+            return copy(duration, version);
+        }
+    }
+
+    private MutableJobStatus copy(JobDuration duration, long version) {
+        MutableJobStatus copy = new MutableJobStatus(jobId);
+        copy.progress = progress;
+        copy.note = note;
+        copy.resumeAttempts = resumeAttempts;
+        copy.stopRequested = stopRequested;
+        copy.lastActivity = lastActivity;
+        copy.duration = duration.copy();
+        while (true) {
+            try {
+                for (Map.Entry<String, List<String>> en
+                        : properties.entrySet()) {
+                    List<String> values = en.getValue();
+                    copy.properties.put(en.getKey(), values == null
+                            ? null : new ArrayList<>(values));
+                }
+                break;
+            } catch (ConcurrentModificationException e) {
+                // Modified by the job while copied, try again
+                copy.properties.clear();
+            }
+        }
+        copy.version = version;
+        copy.stateCache = new StateCache(copy);
+        return copy;
+    }
+
+    private void beginChange() {
+        version++;
+    }
+    private void endChange() {
+        stateCache = new StateCache(this);
+        version++;
+    }
+
+    // States a job is in while considered running and once it is no
+    // longer, for a given duration and its modification count.
+    private static class StateCache {
+        private final JobDuration duration;
+        private final int modCount;
+        private final JobState activeState;
+        private final JobState inactiveState;
+        public StateCache(MutableJobStatus status) {
+            super();
+            this.duration = status.duration;
+            this.modCount = duration.getModCount();
+            this.activeState = status.resolveState(duration, true);
+            this.inactiveState = status.resolveState(duration, false);
+        }
+        // The modification count is read before resolving states, so
+        // durations changed meanwhile are detected on the next check.
+        public boolean isStale(JobDuration currentDuration) {
+            return duration != currentDuration
+                    || modCount != duration.getModCount();
+        }
     }
 }
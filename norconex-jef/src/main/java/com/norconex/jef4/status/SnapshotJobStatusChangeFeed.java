@@ -0,0 +1,117 @@
+/* Copyright 2026 Norconex Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.norconex.jef4.status;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+
+import com.norconex.jef4.JEFException;
+
+/**
+ * Job status change feed for a job suite running in another process.
+ * Changes are obtained by comparing job statuses read from the suite index
+ * file and its job status store, every time changes are requested or
+ * while waiting for changes.  Job statuses are read using a
+ * {@link JobSuiteStatusSnapshotCache}, so only statuses modified since
+ * they were last read are read again when supported by the store.
+ * <br><br>
+ * Versions are specific to each feed instance and do not match versions
+ * of the feed kept by the job suite itself.
+ * @author agent
+ * @since 4.1.0
+ * @see com.norconex.jef4.JEFUtil#getSuiteIndexFile(String, String)
+ */
+public class SnapshotJobStatusChangeFeed extends JobStatusChangeFeed {
+
+    /** Default milliseconds between job status reads when waiting. */
+    public static final long DEFAULT_POLL_INTERVAL = 1000;
+
+    private final JobSuiteStatusSnapshotCache cache =
+            new JobSuiteStatusSnapshotCache();
+    private final File suiteIndex;
+    private final long pollInterval;
+
+    public SnapshotJobStatusChangeFeed(File suiteIndex) {
+        this(suiteIndex, DEFAULT_CAPACITY, DEFAULT_POLL_INTERVAL);
+    }
+    /**
+     * Creates a feed for the job suite with the given index file.
+     * @param suiteIndex suite index file
+     * @param capacity maximum number of changes kept
+     * @param pollInterval milliseconds between job status reads when
+     *        waiting for changes
+     */
+    public SnapshotJobStatusChangeFeed(
+            File suiteIndex, int capacity, long pollInterval) {
+        super(capacity);
+        if (suiteIndex == null) {
+            throw new IllegalArgumentException(
+                    "Suite index file cannot be null.");
+        }
+        this.suiteIndex = suiteIndex;
+        this.pollInterval = Math.max(1, pollInterval);
+    }
+
+    /**
+     * Reads job statuses and publishes their changes.
+     * @throws JEFException problem reading job statuses
+     */
+    public void refresh() {
+        JobSuiteStatusSnapshot snapshot;
+        try {
+            snapshot = cache.getSnapshot(suiteIndex, pollInterval);
+        } catch (IOException e) {
+            throw new JEFException(
+                    "Cannot read job statuses from: " + suiteIndex, e);
+        }
+        if (snapshot == null) {
+            return;
+        }
+        for (IJobStatus status : snapshot.getJobStatusList()) {
+            publish(status);
+        }
+    }
+
+    /**
+     * Reads job statuses, then gets the changes published after the given
+     * version.  If there are none, job statuses are read again at the
+     * poll interval until changes are found or the timeout elapses.
+     * @param version last version known to the caller, zero to get all
+     *        changes kept
+     * @param timeout maximum milliseconds to wait for changes.
+     *        Zero or less does not wait.
+     * @return changes ordered by version, possibly empty
+     * @throws JEFException problem reading job statuses
+     */
+    @Override
+    public List<JobStatusChange> changesSince(long version, long timeout) {
+        long deadline = System.currentTimeMillis() + timeout;
+        while (true) {
+            refresh();
+            List<JobStatusChange> changes = super.changesSince(version, 0);
+            long remaining = deadline - System.currentTimeMillis();
+            if (!changes.isEmpty() || remaining <= 0) {
+                return changes;
+            }
+            try {
+                Thread.sleep(Math.min(pollInterval, remaining));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return changes;
+            }
+        }
+    }
+}
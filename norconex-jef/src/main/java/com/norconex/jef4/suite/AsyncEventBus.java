@@ -0,0 +1,309 @@
+/* Copyright 2026 Norconex Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.norconex.jef4.suite;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.log4j.LogManager;
+import org.apache.log4j.Logger;
+
+import com.norconex.jef4.job.IJobErrorListener;
+import com.norconex.jef4.job.IJobLifeCycleListener;
+import com.norconex.jef4.job.JobErrorEvent;
+import com.norconex.jef4.status.IJobStatus;
+import com.norconex.jef4.status.MutableJobStatus;
+import com.norconex.jef4.suite.EventBusConfig.OverflowPolicy;
+
+/**
+ * Delivers listener events asynchronously, with one bounded queue and
+ * one delivery thread per listener.  Events posted while the bus is not
+ * running are rejected, and are expected to be delivered synchronously
+ * by the caller.
+ * <br><br>
+ * No lock is held while waiting for room in a full queue, so listeners
+ * may post events from delivery threads, including while the bus
+ * is closing.
+ * @author agent
+ * @since 4.1.0
+ * @see EventBusConfig
+ */
+@SuppressWarnings("nls")
+/*default*/ class AsyncEventBus {
+
+    private static final Logger LOG =
+            LogManager.getLogger(AsyncEventBus.class);
+
+    private static final Event END = new Event(null, null);
+
+    private final JobSuite suite;
+    private final EventBusConfig config;
+    private final Map<Object, Channel> channels = new IdentityHashMap<>();
+    // Posts in progress.  Incremented before checking whether running, 
+    // so closing can wait for them and no event gets queued after the 
+    // end marker.
+    private final AtomicInteger posting = new AtomicInteger();
+    private volatile boolean running;
+
+    private final AtomicLong delivered = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong conflated = new AtomicLong();
+    private final AtomicLong totalLatency = new AtomicLong();
+    private final AtomicLong maxLatency = new AtomicLong();
+
+    public AsyncEventBus(JobSuite suite, EventBusConfig config,
+            List<?>... listenerLists) {
+        super();
+        this.suite = suite;
+        this.config = config;
+        for (List<?> listeners : listenerLists) {
+            for (Object listener : listeners) {
+                if (!channels.containsKey(listener)) {
+                    channels.put(listener, new Channel(listener));
+                }
+            }
+        }
+    }
+
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        int count = 0;
+        for (Channel channel : channels.values()) {
+            channel.start("JEF event bus: " + suite.getId()
+                    + " #" + (++count));
+        }
+        running = true;
+    }
+
+    /**
+     * Stops accepting events and waits for queued events to be delivered.
+     */
+    public synchronized void close() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        // Posts that saw the bus running complete, possibly after waiting
+        // for room in a queue, while delivery threads keep draining.
+        while (posting.get() > 0) {
+            try {
+                TimeUnit.MILLISECONDS.sleep(1);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        for (Channel channel : channels.values()) {
+            channel.put(END);
+        }
+        for (Channel channel : channels.values()) {
+            channel.join();
+        }
+    }
+
+    /**
+     * Queues an event for delivery to a listener.
+     * @param listener listener
+     * @param type event type, either a {@link JobLifeCycleEvent},
+     *        a {@link SuiteLifeCycleEvent}, or <code>null</code> for
+     *        a {@link JobErrorEvent}
+     * @param argument event argument
+     * @return <code>true</code> if the event was accepted (even if
+     *         conflated or dropped), <code>false</code> if the bus is not
+     *         running
+     */
+    public boolean post(Object listener, Object type, Object argument) {
+        Channel channel = channels.get(listener);
+        if (channel == null) {
+            return false;
+        }
+        posting.incrementAndGet();
+        try {
+            if (!running) {
+                return false;
+            }
+            channel.post(new Event(type, argument));
+            return true;
+        } finally {
+            posting.decrementAndGet();
+        }
+    }
+
+    /**
+     * Gets the job status to post with a job event.  Events are delivered
+     * later, so they get a copy of the status as it was when fired, 
+     * except conflated progress events which are meant to report 
+     * the latest progress.
+     * @param type event type
+     * @param status live job status
+     * @return job status to post
+     */
+    public IJobStatus toPostedStatus(
+            JobLifeCycleEvent type, IJobStatus status) {
+        if (type == JobLifeCycleEvent.PROGRESSED 
+                && config.isConflateProgress()) {
+            return status;
+        }
+        if (status instanceof MutableJobStatus) {
+            return ((MutableJobStatus) status).snapshot();
+        }
+        return status;
+    }
+
+    public EventBusStats getStats() {
+        int depth = 0;
+        for (Channel channel : channels.values()) {
+            depth += channel.queue.size();
+        }
+        return new EventBusStats(depth, delivered.get(), dropped.get(),
+                conflated.get(), totalLatency.get(), maxLatency.get());
+    }
+
+    private static class Event {
+        private final Object type;
+        private final Object argument;
+        private final long posted = System.nanoTime();
+        public Event(Object type, Object argument) {
+            super();
+            this.type = type;
+            this.argument = argument;
+        }
+        private boolean isProgress() {
+            return type == JobLifeCycleEvent.PROGRESSED;
+        }
+        private String getJobId() {
+            return ((IJobStatus) argument).getJobId();
+        }
+    }
+
+    private class Channel implements Runnable {
+        private final Object listener;
+        private final BlockingQueue<Event> queue;
+        private final Set<String> pendingProgress = Collections.newSetFromMap(
+                new ConcurrentHashMap<String, Boolean>());
+        private Thread thread;
+
+        public Channel(Object listener) {
+            super();
+            this.listener = listener;
+            this.queue = new ArrayBlockingQueue<>(
+                    Math.max(1, config.getQueueCapacity()));
+        }
+
+        public void start(String name) {
+            thread = suite.newThread(this, name);
+            thread.setDaemon(true);
+            thread.start();
+        }
+
+        public void post(Event event) {
+            if (event.isProgress()) {
+                if (config.isConflateProgress()
+                        && !pendingProgress.add(event.getJobId())) {
+                    conflated.incrementAndGet();
+                    return;
+                }
+                if (config.getOverflowPolicy() == OverflowPolicy.DROP) {
+                    if (!queue.offer(event)) {
+                        pendingProgress.remove(event.getJobId());
+                        dropped.incrementAndGet();
+                    }
+                    return;
+                }
+            }
+            put(event);
+        }
+
+        public void put(Event event) {
+            try {
+                queue.put(event);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                if (event.isProgress()) {
+                    pendingProgress.remove(event.getJobId());
+                }
+                dropped.incrementAndGet();
+            }
+        }
+
+        public void join() {
+            try {
+                thread.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        @Override
+        public void run() {
+            while (true) {
+                Event event;
+                try {
+                    event = queue.take();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                if (event == END) {
+                    return;
+                }
+                if (event.isProgress()) {
+                    pendingProgress.remove(event.getJobId());
+                }
+                long latency = System.nanoTime() - event.posted;
+                totalLatency.addAndGet(latency);
+                long max = maxLatency.get();
+                while (latency > max
+                        && !maxLatency.compareAndSet(max, latency)) {
+                    max = maxLatency.get();
+                }
+                try {
+                    deliver(event);
+                } catch (RuntimeException e) {
+                    LOG.error("Listener failed to process event \""
+                            + (event.type == null ? "jobError" : event.type)
+                            + "\": " + listener, e);
+                }
+                delivered.incrementAndGet();
+            }
+        }
+
+        private void deliver(Event event) {
+            if (event.type instanceof JobLifeCycleEvent) {
+                ((JobLifeCycleEvent) event.type).fire(
+                        (IJobLifeCycleListener) listener,
+                        (IJobStatus) event.argument);
+            } else if (event.type instanceof SuiteLifeCycleEvent) {
+                ((SuiteLifeCycleEvent) event.type).fire(
+                        (ISuiteLifeCycleListener) listener,
+                        (JobSuite) event.argument);
+            } else {
+                ((IJobErrorListener) listener).jobError(
+                        (JobErrorEvent) event.argument);
+            }
+        }
+    }
+}
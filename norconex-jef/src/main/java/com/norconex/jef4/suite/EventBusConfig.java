@@ -0,0 +1,81 @@
+/* Copyright 2026 Norconex Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.norconex.jef4.suite;
+
+/**
+ * Configuration of asynchronous listener event delivery.  When set on
+ * a {@link JobSuiteConfig}, job, job error, and suite listeners
+ * no longer get invoked on the thread firing events (e.g., a job thread).
+ * Instead, each listener gets its own bounded event queue and delivery
+ * thread, so a slow listener does not stall job execution or other
+ * listeners.  Each listener receives events in the order they were fired.
+ * <br><br>
+ * When progress conflation is enabled (default), a
+ * "jobProgressed" event is not queued if one is already waiting to be
+ * delivered to a listener for the same job.  Since listeners receive the
+ * live job status, the waiting event will report the latest progress.
+ * <br><br>
+ * The overflow policy decides what happens when a listener queue is full:
+ * {@link OverflowPolicy#BLOCK} (default) makes the thread firing the
+ * event wait for room, while {@link OverflowPolicy#DROP} discards
+ * "jobProgressed" events.  Other events are never dropped.
+ * @author agent
+ * @since 4.1.0
+ * @see JobSuite#getEventBusStats()
+ */
+public class EventBusConfig {
+
+    /** Default maximum number of events queued per listener. */
+    public static final int DEFAULT_QUEUE_CAPACITY = 1000;
+
+    /**
+     * What to do with a new event when a listener queue is full.
+     */
+    public enum OverflowPolicy {
+        /** Wait for room in the queue. */
+        BLOCK,
+        /** Discard "jobProgressed" events, wait for room for others. */
+        DROP
+    }
+
+    private int queueCapacity = DEFAULT_QUEUE_CAPACITY;
+    private OverflowPolicy overflowPolicy = OverflowPolicy.BLOCK;
+    private boolean conflateProgress = true;
+
+    public EventBusConfig() {
+        super();
+    }
+
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+    public void setQueueCapacity(int queueCapacity) {
+        this.queueCapacity = queueCapacity;
+    }
+
+    public OverflowPolicy getOverflowPolicy() {
+        return overflowPolicy;
+    }
+    public void setOverflowPolicy(OverflowPolicy overflowPolicy) {
+        this.overflowPolicy = overflowPolicy;
+    }
+
+    public boolean isConflateProgress() {
+        return conflateProgress;
+    }
+    public void setConflateProgress(boolean conflateProgress) {
+        this.conflateProgress = conflateProgress;
+    }
+}
@@ -0,0 +1,103 @@
+/* Copyright 2026 Norconex Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.norconex.jef4.suite;
+
+/**
+ * Statistics of asynchronous listener event delivery, taken at a given
+ * point in time.  Latency is the time elapsed between an event being fired
+ * and a listener starting to process it.
+ * @author agent
+ * @since 4.1.0
+ * @see EventBusConfig
+ */
+public class EventBusStats {
+
+    private final int queueDepth;
+    private final long deliveredCount;
+    private final long droppedCount;
+    private final long conflatedCount;
+    private final long totalLatencyNanos;
+    private final long maxLatencyNanos;
+
+    public EventBusStats(int queueDepth, long deliveredCount,
+            long droppedCount, long conflatedCount,
+            long totalLatencyNanos, long maxLatencyNanos) {
+        super();
+        this.queueDepth = queueDepth;
+        this.deliveredCount = deliveredCount;
+        this.droppedCount = droppedCount;
+        this.conflatedCount = conflatedCount;
+        this.totalLatencyNanos = totalLatencyNanos;
+        this.maxLatencyNanos = maxLatencyNanos;
+    }
+
+    /**
+     * Gets the number of events waiting to be delivered, all listeners
+     * combined.
+     * @return queue depth
+     */
+    public int getQueueDepth() {
+        return queueDepth;
+    }
+    /**
+     * Gets the number of events delivered to listeners.
+     * @return delivered events
+     */
+    public long getDeliveredCount() {
+        return deliveredCount;
+    }
+    /**
+     * Gets the number of events dropped because a listener queue was full.
+     * @return dropped events
+     */
+    public long getDroppedCount() {
+        return droppedCount;
+    }
+    /**
+     * Gets the number of "jobProgressed" events not queued because one
+     * was already waiting for the same job.
+     * @return conflated events
+     */
+    public long getConflatedCount() {
+        return conflatedCount;
+    }
+    /**
+     * Gets the average delivery latency, in nanoseconds.
+     * @return average latency
+     */
+    public long getAverageLatencyNanos() {
+        if (deliveredCount == 0) {
+            return 0;
+        }
+        return totalLatencyNanos / deliveredCount;
+    }
+    /**
+     * Gets the highest delivery latency, in nanoseconds.
+     * @return maximum latency
+     */
+    public long getMaxLatencyNanos() {
+        return maxLatencyNanos;
+    }
+
+    @Override
+    public String toString() {
+        return "EventBusStats [queueDepth=" + queueDepth
+                + ", deliveredCount=" + deliveredCount
+                + ", droppedCount=" + droppedCount
+                + ", conflatedCount=" + conflatedCount
+                + ", averageLatencyNanos=" + getAverageLatencyNanos()
+                + ", maxLatencyNanos=" + maxLatencyNanos + "]";
+    }
+}
@@ -15,59 +15,155 @@
 package com.norconex.jef4.suite;
 
 import java.io.IOException;
-import java.util.Date;
-import java.util.Queue;
-import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
 
-import com.norconex.commons.lang.Sleeper;
-import com.norconex.jef4.JEFException;
+import org.apache.log4j.LogManager;
+import org.apache.log4j.Logger;
+
+import com.norconex.jef4.JEFUtil;
+import com.norconex.jef4.metrics.IMetrics;
+import com.norconex.jef4.metrics.MetricNames;
+import com.norconex.jef4.status.JobHeartbeatFile;
 import com.norconex.jef4.status.MutableJobStatus;
 
-public class JobHeartbeatGenerator extends Thread {
+/**
+ * Periodically signals running jobs are still alive so they can be
+ * identified as running.  As of 4.1.0, heartbeats of all job suites
+ * in a JVM are generated by a single shared thread, and this class
+ * no longer extends {@link Thread}.  Job statuses are no longer touched
+ * in the job status store: the last activity of running jobs is updated
+ * in memory, and a single suite {@link JobHeartbeatFile} is rewritten
+ * for readers in other processes.
+ */
+@SuppressWarnings("nls")
+public class JobHeartbeatGenerator {
+
+    private static final Logger LOG =
+            LogManager.getLogger(JobHeartbeatGenerator.class);
 
-    private static final long HEARTBEAT_INTERVAL = 5000;
-    
-    private final Queue<MutableJobStatus> statuses = 
-            new ConcurrentLinkedQueue<>();
+    private static ScheduledExecutorService scheduler;
+
+    private final Map<String, MutableJobStatus> statuses =
+            new ConcurrentHashMap<>();
     private final JobSuite suite;
-    
-    private boolean terminate = false;
-    
+    private final long interval;
+
+    private ScheduledFuture<?> heartbeat;
+    private JobHeartbeatFile heartbeatFile;
+    // Only accessed by the heartbeat thread
+    private long lastBeatNanos;
+
     public JobHeartbeatGenerator(JobSuite suite) {
+        this(suite, JobSuiteConfig.DEFAULT_HEARTBEAT_INTERVAL);
+    }
+    /**
+     * Creates a heartbeat generator.
+     * @param suite job suite
+     * @param interval heartbeat interval in milliseconds
+     * @since 4.1.0
+     */
+    public JobHeartbeatGenerator(JobSuite suite, long interval) {
         super();
         this.suite = suite;
-    }
-
-    @Override
-    public void run() {
-        try {
-            while(!terminate) {
-                for (MutableJobStatus status : statuses) {
-                    status.setLastActivity(
-                            new Date(suite.getJobStatusStore().touch(
-                                    suite.getId(), status.getJobId())));
-                }
-                Sleeper.sleepMillis(HEARTBEAT_INTERVAL);
-            }
-        } catch (IOException e) {
-            throw new JEFException("Cannot update status heartbeat.", e);
-        }
+        this.interval = interval;
     }
 
     public void register(MutableJobStatus status) {
-        statuses.add(status);
+        status.setLastActivityMillis(System.currentTimeMillis());
+        statuses.put(status.getJobId(), status);
     }
     public void unregister(MutableJobStatus status) {
-        statuses.remove(status);
+        statuses.remove(status.getJobId());
     }
-    
-    @Override
+
     public synchronized void start() {
-        terminate = false;
-        super.start();
+        if (heartbeat != null) {
+            return;
+        }
+        lastBeatNanos = 0;
+        heartbeatFile = new JobHeartbeatFile(JEFUtil.getSuiteHeartbeatFile(
+                suite.getWorkdir(), suite.getId()));
+        heartbeat = getScheduler().scheduleWithFixedDelay(new Runnable() {
+            @Override
+            public void run() {
+                beat();
+            }
+        }, 0, interval, TimeUnit.MILLISECONDS);
+    }
+
+    public synchronized void terminate() {
+        if (heartbeat != null) {
+            heartbeat.cancel(false);
+            heartbeat = null;
+            try {
+                heartbeatFile.delete();
+            } catch (IOException e) {
+                LOG.error("Cannot delete heartbeat file: "
+                        + heartbeatFile.getFile(), e);
+            }
+        }
+    }
+
+    private void beat() {
+        // Not thrown: it would cancel further heartbeats.
+        try {
+            doBeat();
+        } catch (RuntimeException e) {
+            LOG.error("Heartbeat failed for suite: " + suite.getId(), e);
+        }
+    }
+
+    private void doBeat() {
+        IMetrics metrics = suite.getMetrics();
+        if (metrics != null) {
+            long nanos = System.nanoTime();
+            if (lastBeatNanos != 0) {
+                metrics.recordDuration(MetricNames.HEARTBEAT_LAG, nanos
+                        - lastBeatNanos - TimeUnit.MILLISECONDS.toNanos(
+                                interval));
+            }
+            lastBeatNanos = nanos;
+        }
+        if (statuses.isEmpty()) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        for (MutableJobStatus status : statuses.values()) {
+            status.setLastActivityMillis(now);
+        }
+        // Synchronized so the file is not written again once terminated
+        synchronized (this) {
+            if (heartbeat == null) {
+                return;
+            }
+            try {
+                heartbeatFile.write(statuses.keySet());
+            } catch (IOException e) {
+                // Not thrown: it would prevent further heartbeats.
+                LOG.error("Cannot update heartbeat file for suite: "
+                        + suite.getId(), e);
+            }
+        }
     }
-    
-    public void terminate() {
-        terminate = true;
+
+    private static synchronized ScheduledExecutorService getScheduler() {
+        if (scheduler == null) {
+            scheduler = Executors.newSingleThreadScheduledExecutor(
+                    new ThreadFactory() {
+                @Override
+                public Thread newThread(Runnable r) {
+                    Thread thread = new Thread(r, "JEF heartbeat");
+                    thread.setDaemon(true);
+                    return thread;
+                }
+            });
+        }
+        return scheduler;
     }
 }
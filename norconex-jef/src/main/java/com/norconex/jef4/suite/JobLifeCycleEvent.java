@@ -0,0 +1,77 @@
+/* Copyright 2026 Norconex Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.norconex.jef4.suite;
+
+import com.norconex.jef4.job.IJobLifeCycleListener;
+import com.norconex.jef4.status.IJobStatus;
+
+/**
+ * Job life cycle events, each invoking the matching
+ * {@link IJobLifeCycleListener} method directly.
+ * @author agent
+ * @since 4.1.0
+ */
+/*default*/ enum JobLifeCycleEvent {
+    STOPPING {
+        @Override
+        void fire(IJobLifeCycleListener listener, IJobStatus status) {
+            listener.jobStopping(status);
+        }
+    },
+    STOPPED {
+        @Override
+        void fire(IJobLifeCycleListener listener, IJobStatus status) {
+            listener.jobStopped(status);
+        }
+    },
+    STARTED {
+        @Override
+        void fire(IJobLifeCycleListener listener, IJobStatus status) {
+            listener.jobStarted(status);
+        }
+    },
+    RESUMED {
+        @Override
+        void fire(IJobLifeCycleListener listener, IJobStatus status) {
+            listener.jobResumed(status);
+        }
+    },
+    SKIPPED {
+        @Override
+        void fire(IJobLifeCycleListener listener, IJobStatus status) {
+            listener.jobSkipped(status);
+        }
+    },
+    PROGRESSED {
+        @Override
+        void fire(IJobLifeCycleListener listener, IJobStatus status) {
+            listener.jobProgressed(status);
+        }
+    },
+    TERMINATED_PREMATURALY {
+        @Override
+        void fire(IJobLifeCycleListener listener, IJobStatus status) {
+            listener.jobTerminatedPrematuraly(status);
+        }
+    },
+    COMPLETED {
+        @Override
+        void fire(IJobLifeCycleListener listener, IJobStatus status) {
+            listener.jobCompleted(status);
+        }
+    };
+
+    abstract void fire(IJobLifeCycleListener listener, IJobStatus status);
+}
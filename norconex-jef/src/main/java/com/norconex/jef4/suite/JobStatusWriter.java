@@ -0,0 +1,203 @@
+/* Copyright 2026 Norconex Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.norconex.jef4.suite;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.log4j.LogManager;
+import org.apache.log4j.Logger;
+
+import com.norconex.jef4.metrics.IMetrics;
+import com.norconex.jef4.metrics.MetricNames;
+import com.norconex.jef4.status.MutableJobStatus;
+
+/**
+ * Persists job status updates to the suite {@link
+ * com.norconex.jef4.status.IJobStatusStore}.  By default, every update
+ * is written immediately ("write-through").  When a write interval is
+ * set, updates are instead coalesced per job and written by a background
+ * thread ("write-behind"), either when the interval elapses or when the
+ * number of jobs with pending updates reaches a threshold.
+ * Pending updates are always flushed when a job ends, when the suite is
+ * stopped or terminates, and when the JVM shuts down.
+ * @author agent
+ * @since 4.1.0
+ */
+@SuppressWarnings("nls")
+public class JobStatusWriter {
+
+    private static final Logger LOG =
+            LogManager.getLogger(JobStatusWriter.class);
+
+    private final JobSuite suite;
+    private final long writeInterval;
+    private final int maxPendingJobs;
+    private final Map<String, MutableJobStatus> pending =
+            new ConcurrentHashMap<>();
+    private final Object flushSignal = new Object();
+
+    private Thread flusher;
+    private Thread shutdownHook;
+    private volatile boolean terminate = false;
+
+    /**
+     * Creates a status writer.
+     * @param suite the job suite
+     * @param writeInterval maximum delay in milliseconds before a status
+     *        update gets written. Zero or less writes every update
+     *        immediately.
+     * @param maxPendingJobs number of jobs with pending updates triggering
+     *        an immediate write
+     */
+    public JobStatusWriter(
+            JobSuite suite, long writeInterval, int maxPendingJobs) {
+        super();
+        this.suite = suite;
+        this.writeInterval = writeInterval;
+        this.maxPendingJobs = Math.max(1, maxPendingJobs);
+    }
+
+    /**
+     * Whether status updates are written by a background thread.
+     * @return <code>true</code> if writing behind
+     */
+    public boolean isWriteBehind() {
+        return writeInterval > 0;
+    }
+
+    /**
+     * Writes a job status, or queues it for writing when writing behind.
+     * Queuing a status already pending has no effect, as the latest
+     * status values are always the ones written.
+     * @param status job status
+     * @throws IOException problem writing the status
+     */
+    public void write(MutableJobStatus status) throws IOException {
+        if (!isWriteBehind() || terminate) {
+            writeNow(status);
+            return;
+        }
+        if (pending.put(status.getJobId(), status) == null
+                && pending.size() >= maxPendingJobs) {
+            synchronized (flushSignal) {
+                flushSignal.notifyAll();
+            }
+        }
+    }
+
+    /**
+     * Writes a job status right away, discarding any pending update for it.
+     * @param status job status
+     * @throws IOException problem writing the status
+     */
+    public void flush(MutableJobStatus status) throws IOException {
+        pending.remove(status.getJobId());
+        writeNow(status);
+    }
+
+    /**
+     * Writes all pending job status updates.
+     */
+    public void flushAll() {
+        for (String jobId : pending.keySet()) {
+            MutableJobStatus status = pending.remove(jobId);
+            if (status == null) {
+                continue;
+            }
+            try {
+                writeNow(status);
+            } catch (IOException e) {
+                LOG.error("Cannot persist status update for job: "
+                        + status.getJobId(), e);
+            }
+        }
+    }
+
+    public synchronized void start() {
+        terminate = false;
+        if (!isWriteBehind() || flusher != null) {
+            return;
+        }
+        flusher = new Thread("JEF status writer: " + suite.getId()) {
+            @Override
+            public void run() {
+                while (!terminate) {
+                    synchronized (flushSignal) {
+                        try {
+                            flushSignal.wait(writeInterval);
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                            return;
+                        }
+                    }
+                    flushAll();
+                }
+            }
+        };
+        flusher.setDaemon(true);
+        flusher.start();
+        shutdownHook = new Thread() {
+            @Override
+            public void run() {
+                flushAll();
+            }
+        };
+        Runtime.getRuntime().addShutdownHook(shutdownHook);
+    }
+
+    /**
+     * Stops writing behind, after flushing any pending updates.
+     */
+    public synchronized void terminate() {
+        terminate = true;
+        if (flusher != null) {
+            synchronized (flushSignal) {
+                flushSignal.notifyAll();
+            }
+            try {
+                flusher.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            flusher = null;
+        }
+        flushAll();
+        if (shutdownHook != null) {
+            try {
+                Runtime.getRuntime().removeShutdownHook(shutdownHook);
+            } catch (IllegalStateException e) {
+                // JVM is shutting down, hook already running
+            }
+            shutdownHook = null;
+        }
+    }
+
+    private void writeNow(MutableJobStatus status) throws IOException {
+        // Prevents the same status file to be written concurrently
+        // by a job thread and the background thread.
+        // The job may be changing its status: a consistent copy is written.
+        synchronized (status) {
+            IMetrics metrics = suite.getMetrics();
+            long startNanos = metrics == null ? 0 : System.nanoTime();
+            suite.getJobStatusStore().write(suite.getId(), status.snapshot());
+            if (metrics != null) {
+                metrics.recordDuration(MetricNames.STATUS_WRITE_TIME,
+                        System.nanoTime() - startNanos);
+            }
+        }
+    }
+}
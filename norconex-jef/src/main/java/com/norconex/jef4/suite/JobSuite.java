@@ -19,20 +19,23 @@ import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.OutputStreamWriter;
 import java.io.Writer;
-import java.lang.reflect.InvocationTargetException;
+import java.net.InetSocketAddress;
 import java.text.SimpleDateFormat;
 import java.util.Collections;
 import java.util.Date;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.apache.commons.io.FileUtils;
 import org.apache.commons.io.IOUtils;
 import org.apache.commons.lang3.CharEncoding;
 import org.apache.commons.lang3.StringEscapeUtils;
 import org.apache.commons.lang3.StringUtils;
-import org.apache.commons.lang3.reflect.MethodUtils;
 import org.apache.log4j.Appender;
 import org.apache.log4j.LogManager;
 import org.apache.log4j.Logger;
@@ -44,20 +47,28 @@ import com.norconex.jef4.job.IJob;
 import com.norconex.jef4.job.IJobErrorListener;
 import com.norconex.jef4.job.IJobLifeCycleListener;
 import com.norconex.jef4.job.IJobVisitor;
+import com.norconex.jef4.job.IResourceBoundJob;
 import com.norconex.jef4.job.JobErrorEvent;
 import com.norconex.jef4.job.JobException;
 import com.norconex.jef4.job.group.IJobGroup;
 import com.norconex.jef4.log.FileLogManager;
 import com.norconex.jef4.log.ILogManager;
 import com.norconex.jef4.log.ThreadSafeLayout;
+import com.norconex.jef4.metrics.IMetrics;
+import com.norconex.jef4.metrics.JmxMetrics;
+import com.norconex.jef4.metrics.MetricNames;
+import com.norconex.jef4.status.AbstractJobStatusStore;
 import com.norconex.jef4.status.FileJobStatusStore;
 import com.norconex.jef4.status.IJobStatus;
 import com.norconex.jef4.status.IJobStatusStore;
 import com.norconex.jef4.status.IJobStatusVisitor;
 import com.norconex.jef4.status.JobDuration;
 import com.norconex.jef4.status.JobState;
+import com.norconex.jef4.status.JobStatusChange;
+import com.norconex.jef4.status.JobStatusChangeFeed;
 import com.norconex.jef4.status.JobStatusUpdater;
 import com.norconex.jef4.status.JobSuiteStatusSnapshot;
+import com.norconex.jef4.status.JobSuiteStatusSnapshotCache;
 import com.norconex.jef4.status.MutableJobStatus;
 
 
@@ -76,10 +87,18 @@ public final class JobSuite {
 
     //--- NEW STUFF ------------------------------------------------------------
     private static final Logger LOG = LogManager.getLogger(JobSuite.class);
+
+    // Shared by all suites monitored from outside their running process
+    private static final JobSuiteStatusSnapshotCache SNAPSHOT_CACHE =
+            new JobSuiteStatusSnapshotCache();
     
     /** Associates job id with current thread. */
     private static final ThreadLocal<String> CURRENT_JOB_ID = 
             new ThreadLocal<String>();
+
+    /** Returned when a job was stopped while waiting for resources. */
+    private static final Map<String, Integer> NOT_ACQUIRED = 
+            new HashMap<>(0);
     
 
     
@@ -90,10 +109,22 @@ public final class JobSuite {
     private final ILogManager logManager;
     private final IJobStatusStore jobStatusStore;
     private JobSuiteStatusSnapshot jobSuiteStatusSnapshot;
+    private final Map<String, Long> previousDurations = 
+            new ConcurrentHashMap<>();
     private final List<IJobLifeCycleListener> jobLifeCycleListeners;
     private final List<IJobErrorListener> jobErrorListeners;
     private final List<ISuiteLifeCycleListener> suiteLifeCycleListeners;
     private final JobHeartbeatGenerator heartbeatGenerator;
+    private final AsyncEventBus eventBus;
+    private final JobStatusWriter statusWriter;
+    private final ResourceManager resourceManager;
+    private final JobStatusChangeFeed statusChangeFeed;
+    private final JobSuiteStatusServer statusServer;
+    private final IMetrics metrics;
+    // Guarded by "runningJobIds"
+    private final Set<String> runningJobIds = new HashSet<>();
+    private final Map<String, List<Runnable>> jobEndCallbacks = 
+            new HashMap<>();
     
 
     public JobSuite(final IJob rootJob) {
@@ -114,7 +145,34 @@ public final class JobSuite {
                 config.getSuiteLifeCycleListeners());
         this.jobErrorListeners = 
                 Collections.unmodifiableList(config.getJobErrorListeners());
-        this.heartbeatGenerator = new JobHeartbeatGenerator(this);
+        this.heartbeatGenerator = new JobHeartbeatGenerator(
+                this, config.getHeartbeatInterval());
+        this.statusWriter = new JobStatusWriter(this, 
+                config.getStatusWriteInterval(), 
+                config.getStatusWriteMaxPendingJobs());
+        if (config.getEventBusConfig() != null) {
+            this.eventBus = new AsyncEventBus(this, config.getEventBusConfig(),
+                    jobLifeCycleListeners, jobErrorListeners,
+                    suiteLifeCycleListeners);
+        } else {
+            this.eventBus = null;
+        }
+        this.resourceManager = 
+                new ResourceManager(config.getResourcePools());
+        if (config.getStatusChangeFeedCapacity() > 0) {
+            this.statusChangeFeed = new JobStatusChangeFeed(
+                    config.getStatusChangeFeedCapacity());
+        } else {
+            this.statusChangeFeed = null;
+        }
+        this.metrics = config.getMetrics();
+        if (config.getStatusServerAddress() != null) {
+            this.statusServer = new JobSuiteStatusServer(
+                    this, config.getStatusServerAddress(),
+                    config.getStatusServerMaxEventStreams());
+        } else {
+            this.statusServer = null;
+        }
         
         accept(new IJobVisitor() {
             @Override
@@ -152,8 +210,8 @@ public final class JobSuite {
         }
         try {
             File indexFile = JEFUtil.getSuiteIndexFile(getWorkdir(), getId());
-            JobSuiteStatusSnapshot snapshot = 
-                    JobSuiteStatusSnapshot.newSnapshot(indexFile);
+            JobSuiteStatusSnapshot snapshot = SNAPSHOT_CACHE.getSnapshot(
+                    indexFile, config.getStatusSnapshotMaxAge());
             if (snapshot != null) {
                 return snapshot.getJobStatus(jobId);
             }
@@ -163,21 +221,122 @@ public final class JobSuite {
         }
     }
     
+    /**
+     * Gets how long a job took to complete in the previous execution
+     * of this suite, as recorded in the job status store.  Only known
+     * once this suite started executing, for jobs that completed in the 
+     * previous execution.
+     * @param jobId job identifier
+     * @return duration in milliseconds, or <code>-1</code> if unknown
+     * @since 4.1.0
+     */
+    public long getPreviousDuration(String jobId) {
+        Long duration = previousDurations.get(jobId);
+        if (duration == null) {
+            return -1;
+        }
+        return duration;
+    }
+
+    /**
+     * Gets the job status changes (state, progress, or note) that occurred
+     * after the given version, waiting up to the given timeout for changes
+     * if there are none yet.  This allows monitoring tools to long-poll
+     * or stream status changes. Only the latest changes are kept
+     * (see {@link JobSuiteConfig#setStatusChangeFeedCapacity(int)}).
+     * Changes older than {@link #getOldestChangeVersion()} are no longer
+     * returned: callers who missed them should get job statuses again.
+     * To monitor a job suite running in another process, use
+     * {@link com.norconex.jef4.status.SnapshotJobStatusChangeFeed}.
+     * @param version version of the last change known to the caller,
+     *        or zero to get all changes kept
+     * @param timeout maximum milliseconds to wait for changes
+     * @return changes ordered by version, possibly empty
+     * @since 4.1.0
+     */
+    public List<JobStatusChange> changesSince(long version, long timeout) {
+        if (statusChangeFeed == null) {
+            return Collections.emptyList();
+        }
+        return statusChangeFeed.changesSince(version, timeout);
+    }
+    /**
+     * Gets the version of the oldest job status change kept.  Callers of
+     * {@link #changesSince(long, long)} with a version lower than the
+     * one preceding it have missed changes.
+     * @return oldest version, or zero if there are no changes
+     * @since 4.1.0
+     */
+    public long getOldestChangeVersion() {
+        if (statusChangeFeed == null) {
+            return 0;
+        }
+        return statusChangeFeed.getOldestVersion();
+    }
+
+    /**
+     * Gets the address the embedded status server is listening on.
+     * @return status server address, or <code>null</code> if the server
+     *         is disabled or the suite is not executing
+     * @since 4.1.0
+     */
+    public InetSocketAddress getStatusServerAddress() {
+        if (statusServer == null) {
+            return null;
+        }
+        return statusServer.getAddress();
+    }
+
+    /**
+     * Gets the metrics recorded for this suite execution.
+     * @return metrics, or <code>null</code> if metrics are disabled
+     * @since 4.1.0
+     */
+    public IMetrics getMetrics() {
+        return metrics;
+    }
+
     public boolean execute() {
         return execute(false);
     }
     public boolean execute(boolean resumeIfIncomplete) {
         boolean success = false;
+        if (metrics instanceof JmxMetrics) {
+            ((JmxMetrics) metrics).register();
+        }
+        if (eventBus != null) {
+            eventBus.start();
+        }
         try {
             success = doExecute(resumeIfIncomplete);
         } catch (Throwable e) {
             LOG.fatal("Job suite execution failed: " + getId(), e);
         }
         if (!success) {
-            fire(suiteLifeCycleListeners, "suiteAborted", this);
+            fireSuiteEvent(SuiteLifeCycleEvent.ABORTED);
+        }
+        if (eventBus != null) {
+            eventBus.close();
+        }
+        // Lets other suites of this JVM register their metrics
+        if (metrics instanceof JmxMetrics) {
+            ((JmxMetrics) metrics).unregister();
         }
         return success;
     }
+
+    /**
+     * Gets statistics about asynchronous delivery of listener events.
+     * @return event delivery statistics, or <code>null</code> if listener
+     *         events are delivered synchronously
+     * @since 4.1.0
+     */
+    public EventBusStats getEventBusStats() {
+        if (eventBus == null) {
+            return null;
+        }
+        return eventBus.getStats();
+    }
     
     
     public void accept(IJobStatusVisitor visitor) {
@@ -220,15 +379,73 @@ public final class JobSuite {
      * threads to associated a job with the thread.  Framework code
      * may rely on this to behave as expected.  Otherwise, it is best 
      * advised not to use this method.
-     * @param jobId job identifier
+     * @param jobId job identifier (<code>null</code> to dissociate
+     *        the current thread from any job)
      */
     public static void setCurrentJobId(String jobId) {
-        CURRENT_JOB_ID.set(jobId);
+        if (jobId == null) {
+            CURRENT_JOB_ID.remove();
+        } else {
+            CURRENT_JOB_ID.set(jobId);
+        }
+    }
+    /**
+     * Wraps a runnable so it runs with the currently running job of the
+     * calling thread as its current job.  The job previously associated 
+     * with the thread running it is restored once done, so threads
+     * taken from a pool do not keep a stale job, and short-lived 
+     * threads do not keep a job associated once done.
+     * Use it to propagate the current job to threads you create.
+     * @param runnable the runnable to wrap
+     * @return a runnable propagating the current job
+     * @since 4.1.0
+     */
+    public static Runnable propagateCurrentJobId(final Runnable runnable) {
+        final String jobId = getCurrentJobId();
+        return new Runnable() {
+            @Override
+            public void run() {
+                String previousJobId = getCurrentJobId();
+                setCurrentJobId(jobId);
+                try {
+                    runnable.run();
+                } finally {
+                    setCurrentJobId(previousJobId);
+                }
+            }
+        };
+    }
+
+    /**
+     * Creates a new thread (not started) with the configured thread
+     * factory, or a platform thread if none is configured.  The
+     * currently running job of the calling thread is propagated to the 
+     * new thread.
+     * @param runnable what the thread will run
+     * @param name thread name
+     * @return new thread
+     * @since 4.1.0
+     * @see JobSuiteConfig#setThreadFactory(java.util.concurrent.ThreadFactory)
+     */
+    public Thread newThread(Runnable runnable, String name) {
+        Runnable target = propagateCurrentJobId(runnable);
+        if (config.getThreadFactory() == null) {
+            return new Thread(target, name);
+        }
+        Thread thread = config.getThreadFactory().newThread(target);
+        thread.setName(name);
+        return thread;
     }
     
     /*default*/ IJobStatusStore getJobStatusStore() {
         return jobStatusStore;
     }
+    /*default*/ JobStatusWriter getStatusWriter() {
+        return statusWriter;
+    }
+    /*default*/ JobSuiteStatusSnapshot getJobSuiteStatusSnapshot() {
+        return jobSuiteStatusSnapshot;
+    }
     public String getId() {
         IJob job = getRootJob();
         if (job != null) {
@@ -282,11 +499,16 @@ public final class JobSuite {
 
         //--- Add Log Appender ---
         Appender appender = getLogManager().createAppender(getId());
-        appender.setLayout(new ThreadSafeLayout(appender.getLayout()));
+        appender.setLayout(
+                new ThreadSafeLayout(appender.getLayout(), metrics));
         
         Logger.getRootLogger().addAppender(appender);        
 
         heartbeatGenerator.start();
+        statusWriter.start();
+        if (statusServer != null) {
+            statusServer.start();
+        }
         
         //TODO add listeners, etc
 
@@ -294,7 +516,7 @@ public final class JobSuite {
         stopMonitor.start();
 
         LOG.info("Starting execution.");
-        fire(suiteLifeCycleListeners, "suiteStarted", this);
+        fireSuiteEvent(SuiteLifeCycleEvent.STARTED);
         
         try {
             success = runJob(getRootJob());
@@ -302,11 +524,18 @@ public final class JobSuite {
             stopMonitor.stopMonitoring();
             JobState jobState = jobSuiteStatusSnapshot.getRoot().getState();
             if (success && jobState == JobState.COMPLETED) {
-                fire(suiteLifeCycleListeners, "suiteCompleted", this);
+                fireSuiteEvent(SuiteLifeCycleEvent.COMPLETED);
             }
             // Remove appender
             Logger.getRootLogger().removeAppender(appender);
             heartbeatGenerator.terminate();
+            statusWriter.terminate();
+            if (statusServer != null) {
+                statusServer.stop();
+            }
+            if (jobStatusStore instanceof AbstractJobStatusStore) {
+                ((AbstractJobStatusStore) jobStatusStore).release(getId());
+            }
         }
 
         return success;
@@ -326,79 +555,89 @@ public final class JobSuite {
                 (MutableJobStatus) jobSuiteStatusSnapshot.getJobStatus(job);
         if (status.getState() == JobState.COMPLETED) {
             LOG.info("Job skipped: " + job.getId() + " (already completed)");
-            fire(jobLifeCycleListeners, "jobSkipped", status);
+            fireJobEvent(JobLifeCycleEvent.SKIPPED, status);
             return true;
         }
 
         boolean errorHandled = false;
+        SuiteStatusUpdater statusUpdater = new SuiteStatusUpdater(status);
+        Map<String, Integer> resources = null;
+        long startNanos = 0;
+        boolean stopped = false;
         try {
+            resources = acquireResources(job, status);
+            if (resources == NOT_ACQUIRED) {
+                LOG.info("Job stopped while waiting for resources: "
+                        + job.getId());
+                resources = null;
+                stopped = true;
+                return false;
+            }
+            if (metrics != null) {
+                startNanos = System.nanoTime();
+            }
+            // Registered first so listeners see the job as running
+            synchronized (runningJobIds) {
+                runningJobIds.add(job.getId());
+            }
+            heartbeatGenerator.register(status);
             if (status.getResumeAttempts() == 0) {
                 status.getDuration().setStartTime(new Date());
                 LOG.info("Running " + job.getId() + ": BEGIN (" 
                         + status.getDuration().getStartTime() + ")");  
-                fire(jobLifeCycleListeners, "jobStarted", status);
+                fireJobEvent(JobLifeCycleEvent.STARTED, status);
             } else {
                 LOG.info("Running " + job.getId()  
                         + ": RESUME (" + new Date() + ")");  
-                fire(jobLifeCycleListeners, "jobResumed", status);
                 status.getDuration().setEndTime(null);
                 status.setNote("");  
+                fireJobEvent(JobLifeCycleEvent.RESUMED, status);
             }
 
-            heartbeatGenerator.register(status);
             //--- Execute ---
-            job.execute(new JobStatusUpdater(status) {
-                protected void statusUpdated(MutableJobStatus status) {
-                    try {
-                        getJobStatusStore().write(getId(), status);
-                    } catch (IOException e) {
-                        throw new JEFException(
-                                "Cannot persist status update for job: "
-                                        + status.getJobId(), e);
-                    }
-                    fire(jobLifeCycleListeners, "jobProgressed", status);
-                    IJobStatus parentStatus = 
-                            jobSuiteStatusSnapshot.getParent(status);
-                    if (parentStatus != null) {
-                        IJobGroup jobGroup = 
-                                (IJobGroup) jobs.get(parentStatus.getJobId());
-                        if (jobGroup != null) {
-                            jobGroup.groupProgressed(status);
-                        }
-                    }
-                };
-
-            }, this);
+            job.execute(statusUpdater, this);
             success = true;
         } catch (Exception e) {
             success = false;
             LOG.error("Execution failed for job: " + job.getId(), e);
-            fire(jobErrorListeners, "jobError", 
-                    new JobErrorEvent(e, this, status));
+            fireJobError(new JobErrorEvent(e, this, status));
             if (status != null) {
                 status.setNote("Error occured: " + e.getLocalizedMessage());
             }
             errorHandled = true;
             //System.exit(-1)
         } finally {
+            if (resources != null) {
+                resourceManager.release(resources);
+            }
             heartbeatGenerator.unregister(status);
+            if (startNanos != 0) {
+                metrics.recordDuration(
+                        MetricNames.JOB_RUN_TIME + job.getClass().getName(),
+                        System.nanoTime() - startNanos);
+            }
             status.getDuration().setEndTime(new Date());
+            // Parent must know the final progress of its child
+            statusUpdater.propagatePending();
             try {
-                getJobStatusStore().write(getId(), status);
+                statusWriter.flush(status);
             } catch (IOException e) {
                 LOG.error("Cannot save final status.", e);
             }
-            if (!success && !errorHandled) {
+            if (!success && !errorHandled && !stopped) {
                 LOG.fatal("Fatal error occured in job: " + job.getId());
             }
-            LOG.info("Running " + job.getId()  
-                    + ": END (" + status.getDuration().getStartTime() + ")");  
-            if (success) {
-                fire(jobLifeCycleListeners, "jobCompleted", status);
-            } else {
-                fire(jobLifeCycleListeners, 
-                        "jobTerminatedPrematuraly", status);
+            if (!stopped) {
+                LOG.info("Running " + job.getId() + ": END (" 
+                        + status.getDuration().getStartTime() + ")");  
+                if (success) {
+                    fireJobEvent(JobLifeCycleEvent.COMPLETED, status);
+                } else {
+                    fireJobEvent(
+                            JobLifeCycleEvent.TERMINATED_PREMATURALY, status);
+                }
             }
+            jobEnded(job.getId());
         }
         return success;
     }
@@ -423,6 +662,141 @@ public final class JobSuite {
         }        
     }
     
+    /**
+     * Persists job status updates, notifies listeners, and propagates
+     * them to the parent job group.  Propagation can be throttled
+     * (see {@link JobSuiteConfig#setProgressPropagationInterval(long)}).
+     */
+    private class SuiteStatusUpdater extends JobStatusUpdater {
+        private final long interval = config.getProgressPropagationInterval();
+        private final double delta = config.getProgressPropagationDelta();
+        // Guarded by "this"
+        private long lastPropagated;
+        private double lastPropagatedProgress;
+        private boolean pending;
+        public SuiteStatusUpdater(MutableJobStatus status) {
+            super(status);
+        }
+        @Override
+        protected void statusUpdated(MutableJobStatus status) {
+            try {
+                statusWriter.write(status);
+            } catch (IOException e) {
+                throw new JEFException(
+                        "Cannot persist status update for job: "
+                                + status.getJobId(), e);
+            }
+            fireJobEvent(JobLifeCycleEvent.PROGRESSED, status);
+            if (shouldPropagate(status)) {
+                propagate(status);
+            }
+        }
+        private synchronized boolean shouldPropagate(MutableJobStatus status) {
+            double progress = status.getProgress();
+            long now = System.currentTimeMillis();
+            if (interval <= 0 || progress >= 1d
+                    || now - lastPropagated >= interval
+                    || (delta > 0 && Math.abs(
+                            progress - lastPropagatedProgress) >= delta)) {
+                lastPropagated = now;
+                lastPropagatedProgress = progress;
+                pending = false;
+                return true;
+            }
+            pending = true;
+            return false;
+        }
+        /**
+         * Propagates the job status if its last update was not.
+         */
+        public void propagatePending() {
+            synchronized (this) {
+                if (!pending) {
+                    return;
+                }
+                pending = false;
+            }
+            propagate((MutableJobStatus) jobSuiteStatusSnapshot.getJobStatus(
+                    getJobId()));
+        }
+        private void propagate(MutableJobStatus status) {
+            IJobStatus parentStatus = jobSuiteStatusSnapshot.getParent(status);
+            if (parentStatus != null) {
+                IJobGroup jobGroup = 
+                        (IJobGroup) jobs.get(parentStatus.getJobId());
+                if (jobGroup != null) {
+                    jobGroup.groupProgressed(status);
+                }
+            }
+        }
+    }
+
+    /**
+     * Runs a callback once a job returns, or right away if the job
+     * is not running.
+     * @param jobId job identifier
+     * @param callback what to run
+     */
+    /*default*/ void whenJobEnded(String jobId, Runnable callback) {
+        synchronized (runningJobIds) {
+            if (runningJobIds.contains(jobId)) {
+                List<Runnable> callbacks = jobEndCallbacks.get(jobId);
+                if (callbacks == null) {
+                    callbacks = new ArrayList<>();
+                    jobEndCallbacks.put(jobId, callbacks);
+                }
+                callbacks.add(callback);
+                return;
+            }
+        }
+        callback.run();
+    }
+    private void jobEnded(String jobId) {
+        List<Runnable> callbacks;
+        synchronized (runningJobIds) {
+            runningJobIds.remove(jobId);
+            callbacks = jobEndCallbacks.remove(jobId);
+        }
+        if (callbacks != null) {
+            for (Runnable callback : callbacks) {
+                try {
+                    callback.run();
+                } catch (RuntimeException e) {
+                    LOG.error("Job end callback failed for: " + jobId, e);
+                }
+            }
+        }
+    }
+
+    // Returns null if no resources are required, or NOT_ACQUIRED if the
+    // job was requested to stop while waiting for them.
+    private Map<String, Integer> acquireResources(
+            IJob job, MutableJobStatus status) {
+        if (!(job instanceof IResourceBoundJob)) {
+            return null;
+        }
+        Map<String, Integer> resources = 
+                ((IResourceBoundJob) job).getRequiredResources();
+        if (resources == null || resources.isEmpty()) {
+            return null;
+        }
+        resources = new HashMap<>(resources);
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Job " + job.getId() 
+                    + " waiting for resources: " + resources);
+        }
+        try {
+            if (!resourceManager.acquire(resources, status)) {
+                return NOT_ACQUIRED;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new JobException(
+                    "Interrupted while waiting for resources.", e);
+        }
+        return resources;
+    }
+
     private void accept(
             IJobVisitor visitor, IJob job, Class<IJob> jobClassFilter) {
         if (job == null) {
@@ -449,6 +823,12 @@ public final class JobSuite {
         
         if (statusTree != null) {
             LOG.info("Previous execution detected.");
+            for (IJobStatus jobStatus : statusTree.getJobStatusList()) {
+                if (jobStatus.getState() == JobState.COMPLETED) {
+                    previousDurations.put(jobStatus.getJobId(), 
+                            jobStatus.getDuration().getTotalDuration());
+                }
+            }
             MutableJobStatus status = (MutableJobStatus) statusTree.getRoot();
             JobState state = status.getState();
             ensureValidExecutionState(state);
@@ -631,15 +1011,75 @@ public final class JobSuite {
         return serial;
     }
     
-    private void fire(List<?> listeners, String methodName, Object argument) {
-        for (Object l : listeners) {
-            try {
-                MethodUtils.invokeExactMethod(l, methodName, argument);
-            } catch (NoSuchMethodException | IllegalAccessException
-                    | InvocationTargetException e) {
-                throw new JobException(
-                        "Could not fire event \"" + methodName + "\".", e);
+    /*default*/ void fireJobEvent(
+            JobLifeCycleEvent event, IJobStatus status) {
+        // Job events are fired on every job status change
+        if (statusChangeFeed != null) {
+            statusChangeFeed.publish(status);
+        }
+        long startNanos = metrics == null ? 0 : System.nanoTime();
+        try {
+            IJobStatus postedStatus = null;
+            for (IJobLifeCycleListener l : jobLifeCycleListeners) {
+                if (eventBus != null) {
+                    if (postedStatus == null) {
+                        postedStatus = eventBus.toPostedStatus(event, status);
+                    }
+                    if (eventBus.post(l, event, postedStatus)) {
+                        continue;
+                    }
+                }
+                try {
+                    event.fire(l, status);
+                } catch (RuntimeException e) {
+                    throw new JobException(
+                            "Could not fire event \"" + event + "\".", e);
+                }
+            }
+        } finally {
+            dispatched(startNanos);
+        }
+    }
+    /*default*/ void fireSuiteEvent(SuiteLifeCycleEvent event) {
+        long startNanos = metrics == null ? 0 : System.nanoTime();
+        try {
+            for (ISuiteLifeCycleListener l : suiteLifeCycleListeners) {
+                if (eventBus != null && eventBus.post(l, event, this)) {
+                    continue;
+                }
+                try {
+                    event.fire(l, this);
+                } catch (RuntimeException e) {
+                    throw new JobException(
+                            "Could not fire event \"" + event + "\".", e);
+                }
+            }
+        } finally {
+            dispatched(startNanos);
+        }
+    }
+    /*default*/ void fireJobError(JobErrorEvent event) {
+        long startNanos = metrics == null ? 0 : System.nanoTime();
+        try {
+            for (IJobErrorListener l : jobErrorListeners) {
+                if (eventBus != null && eventBus.post(l, null, event)) {
+                    continue;
+                }
+                try {
+                    l.jobError(event);
+                } catch (RuntimeException e) {
+                    throw new JobException(
+                            "Could not fire event \"jobError\".", e);
+                }
             }
+        } finally {
+            dispatched(startNanos);
+        }
+    }
+    private void dispatched(long startNanos) {
+        if (metrics != null) {
+            metrics.recordDuration(MetricNames.LISTENER_DISPATCH_TIME,
+                    System.nanoTime() - startNanos);
         }
     }
 
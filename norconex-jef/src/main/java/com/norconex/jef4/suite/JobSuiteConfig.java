@@ -14,20 +14,54 @@
  */
 package com.norconex.jef4.suite;
 
+import java.net.InetSocketAddress;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ThreadFactory;
 
 import com.norconex.jef4.job.IJobErrorListener;
 import com.norconex.jef4.job.IJobLifeCycleListener;
 import com.norconex.jef4.log.ILogManager;
+import com.norconex.jef4.metrics.IMetrics;
 import com.norconex.jef4.status.IJobStatusStore;
+import com.norconex.jef4.status.JobStatusChangeFeed;
+import com.norconex.jef4.status.JobSuiteStatusSnapshotCache;
 
 public class JobSuiteConfig {
 
+    /** Default number of jobs with pending status updates forcing a write. */
+    public static final int DEFAULT_STATUS_WRITE_MAX_PENDING = 100;
+    /** Default interval in milliseconds between job heartbeats. */
+    public static final long DEFAULT_HEARTBEAT_INTERVAL = 5000;
+    /** Default maximum number of status server event streams. */
+    public static final int DEFAULT_STATUS_SERVER_MAX_EVENT_STREAMS = 10;
+
     private IJobStatusStore jobStatusStore;
     private ILogManager logManager;
     private String workdir;
+    private long statusWriteInterval;
+    private int statusWriteMaxPendingJobs = DEFAULT_STATUS_WRITE_MAX_PENDING;
+    private long statusSnapshotMaxAge = 
+            JobSuiteStatusSnapshotCache.DEFAULT_MAX_AGE;
+    private long heartbeatInterval = DEFAULT_HEARTBEAT_INTERVAL;
+    private EventBusConfig eventBusConfig;
+    private long progressPropagationInterval;
+    private double progressPropagationDelta;
+    private ForkJoinPool jobGroupPool;
+    private ThreadFactory threadFactory;
+    private final Map<String, Integer> resourcePools = new HashMap<>();
+    private int statusChangeFeedCapacity = 
+            JobStatusChangeFeed.DEFAULT_CAPACITY;
+    private InetSocketAddress statusServerAddress;
+    private int statusServerMaxEventStreams =
+            DEFAULT_STATUS_SERVER_MAX_EVENT_STREAMS;
+    private IMetrics metrics;
+    private boolean stopFilePolling;
     
     private final List<IJobLifeCycleListener> jobLifeCycleListeners =
             new ArrayList<IJobLifeCycleListener>();
@@ -67,6 +101,340 @@ public class JobSuiteConfig {
         this.jobStatusStore = jobStatusStore;
     }
 
+    /**
+     * Gets the maximum delay in milliseconds before a job status update
+     * is persisted.  Zero (default) persists every update immediately.
+     * @return status write interval
+     * @since 4.1.0
+     */
+    public long getStatusWriteInterval() {
+        return statusWriteInterval;
+    }
+    /**
+     * Sets the maximum delay in milliseconds before a job status update
+     * is persisted.  When greater than zero, updates are coalesced per job
+     * and written by a background thread.  Useful for jobs reporting
+     * progress very frequently.
+     * @param statusWriteInterval status write interval
+     * @since 4.1.0
+     */
+    public void setStatusWriteInterval(long statusWriteInterval) {
+        this.statusWriteInterval = statusWriteInterval;
+    }
+    /**
+     * Gets the number of jobs with pending status updates that triggers
+     * writing them without waiting for the write interval to elapse.
+     * Only applies when a status write interval is set.
+     * @return maximum number of jobs with pending status updates
+     * @since 4.1.0
+     */
+    public int getStatusWriteMaxPendingJobs() {
+        return statusWriteMaxPendingJobs;
+    }
+    /**
+     * Sets the number of jobs with pending status updates that triggers
+     * writing them without waiting for the write interval to elapse.
+     * Only applies when a status write interval is set.
+     * @param statusWriteMaxPendingJobs maximum number of jobs with pending
+     *        status updates
+     * @since 4.1.0
+     */
+    public void setStatusWriteMaxPendingJobs(int statusWriteMaxPendingJobs) {
+        this.statusWriteMaxPendingJobs = statusWriteMaxPendingJobs;
+    }
+
+    /**
+     * Gets the maximum age in milliseconds of cached job statuses returned
+     * by {@link JobSuite#getJobStatus(String)} when the suite is not
+     * running in the current process.
+     * @return maximum age of cached job statuses
+     * @since 4.1.0
+     */
+    public long getStatusSnapshotMaxAge() {
+        return statusSnapshotMaxAge;
+    }
+    /**
+     * Sets the maximum age in milliseconds of cached job statuses returned
+     * by {@link JobSuite#getJobStatus(String)} when the suite is not
+     * running in the current process.  Zero or less checks for
+     * modified job statuses on every call.
+     * @param statusSnapshotMaxAge maximum age of cached job statuses
+     * @since 4.1.0
+     */
+    public void setStatusSnapshotMaxAge(long statusSnapshotMaxAge) {
+        this.statusSnapshotMaxAge = statusSnapshotMaxAge;
+    }
+
+    /**
+     * Gets the interval in milliseconds between job heartbeats, signaling
+     * running jobs are still alive.
+     * @return heartbeat interval
+     * @since 4.1.0
+     */
+    public long getHeartbeatInterval() {
+        return heartbeatInterval;
+    }
+    /**
+     * Sets the interval in milliseconds between job heartbeats, signaling
+     * running jobs are still alive.  Jobs without activity for 10 seconds
+     * are no longer considered running, so the interval should remain
+     * well below that.
+     * @param heartbeatInterval heartbeat interval
+     * @since 4.1.0
+     */
+    public void setHeartbeatInterval(long heartbeatInterval) {
+        this.heartbeatInterval = heartbeatInterval;
+    }
+
+    /**
+     * Gets the asynchronous listener event delivery configuration.
+     * @return event bus configuration, or <code>null</code> if listener
+     *         events are delivered synchronously
+     * @since 4.1.0
+     */
+    public EventBusConfig getEventBusConfig() {
+        return eventBusConfig;
+    }
+    /**
+     * Sets the asynchronous listener event delivery configuration.
+     * Default is <code>null</code>, invoking listeners synchronously
+     * on the thread firing events.
+     * @param eventBusConfig event bus configuration
+     * @since 4.1.0
+     */
+    public void setEventBusConfig(EventBusConfig eventBusConfig) {
+        this.eventBusConfig = eventBusConfig;
+    }
+
+    /**
+     * Gets the minimum delay in milliseconds between two propagations
+     * of a job progress to its parent job group.
+     * @return progress propagation interval
+     * @since 4.1.0
+     */
+    public long getProgressPropagationInterval() {
+        return progressPropagationInterval;
+    }
+    /**
+     * Sets the minimum delay in milliseconds between two propagations
+     * of a job progress to its parent job group.  Each propagation makes
+     * the parent recompute, persist, and propagate its own progress, so
+     * throttling it reduces work for deep job trees with jobs reporting
+     * progress often.  Completion and the last progress of a job
+     * are always propagated. Default is zero (propagate every update).
+     * @param progressPropagationInterval progress propagation interval
+     * @since 4.1.0
+     */
+    public void setProgressPropagationInterval(
+            long progressPropagationInterval) {
+        this.progressPropagationInterval = progressPropagationInterval;
+    }
+    /**
+     * Gets the progress change triggering propagation of a job progress to
+     * its parent job group before the propagation interval elapsed.
+     * @return progress propagation delta
+     * @since 4.1.0
+     */
+    public double getProgressPropagationDelta() {
+        return progressPropagationDelta;
+    }
+    /**
+     * Sets the progress change (e.g., 0.05 for 5%) triggering propagation
+     * of a job progress to its parent job group before the propagation
+     * interval elapsed. Only applies when a propagation interval is set.
+     * Zero or less only propagates once the interval elapsed.
+     * @param progressPropagationDelta progress propagation delta
+     * @since 4.1.0
+     */
+    public void setProgressPropagationDelta(double progressPropagationDelta) {
+        this.progressPropagationDelta = progressPropagationDelta;
+    }
+
+    /**
+     * Gets the pool running jobs of asynchronous job groups.
+     * @return job group pool, or <code>null</code> if each asynchronous
+     *         group execution creates its own threads
+     * @since 4.1.0
+     */
+    public ForkJoinPool getJobGroupPool() {
+        return jobGroupPool;
+    }
+    /**
+     * Sets a pool shared by all asynchronous job groups of the suite to
+     * run their jobs.  Threads of asynchronous groups waiting for their
+     * jobs to complete run pending jobs themselves, so the total number
+     * of threads used is bounded by the pool parallelism no matter how
+     * deep groups are nested.  The pool is not shut down by the suite.
+     * Default is <code>null</code> (each group execution creates
+     * a thread pool of its maximum number of threads).
+     * @param jobGroupPool job group pool
+     * @since 4.1.0
+     */
+    public void setJobGroupPool(ForkJoinPool jobGroupPool) {
+        this.jobGroupPool = jobGroupPool;
+    }
+
+    /**
+     * Gets the factory creating threads running jobs and watching them.
+     * @return thread factory, or <code>null</code> if platform threads
+     *         are created directly
+     * @since 4.1.0
+     */
+    public ThreadFactory getThreadFactory() {
+        return threadFactory;
+    }
+    /**
+     * Sets the factory creating threads for jobs of asynchronous job
+     * groups (when no job group pool is set), for reading outputs of
+     * system commands, for handling stop requests, and for delivering
+     * events of the asynchronous event bus.  
+     * Jobs of an asynchronous group each get a new thread,
+     * with no more than the group maximum number of threads running at
+     * once.  This is best suited for I/O-bound jobs with a factory of
+     * lightweight threads, such as the one returned by
+     * {@link com.norconex.jef4.JEFUtil#newVirtualThreadFactory()}.
+     * Default is <code>null</code> (platform threads are created directly).
+     * @param threadFactory thread factory
+     * @since 4.1.0
+     */
+    public void setThreadFactory(ThreadFactory threadFactory) {
+        this.threadFactory = threadFactory;
+    }
+
+    /**
+     * Gets the capacity of resource pools, keyed by pool name.
+     * @return resource pools (never <code>null</code>)
+     * @since 4.1.0
+     */
+    public Map<String, Integer> getResourcePools() {
+        return Collections.unmodifiableMap(resourcePools);
+    }
+    /**
+     * Sets the capacity of a named pool of resources shared by all jobs 
+     * of the suite (e.g., "db" with a capacity of 8 connections).
+     * Jobs implementing {@link com.norconex.jef4.job.IResourceBoundJob}
+     * only start once the resources they require are available,
+     * regardless of the job group they belong to.
+     * @param name resource pool name
+     * @param capacity resource pool capacity
+     * @since 4.1.0
+     */
+    public void setResourcePool(String name, int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException(
+                    "Resource pool capacity cannot be negative.");
+        }
+        resourcePools.put(name, capacity);
+    }
+
+    /**
+     * Gets the maximum number of job status changes kept by the job suite
+     * status change feed.
+     * @return status change feed capacity
+     * @since 4.1.0
+     */
+    public int getStatusChangeFeedCapacity() {
+        return statusChangeFeedCapacity;
+    }
+    /**
+     * Sets the maximum number of job status changes kept by the job suite
+     * status change feed (see {@link JobSuite#changesSince(long, long)}).
+     * Zero or less disables the feed.
+     * @param statusChangeFeedCapacity status change feed capacity
+     * @since 4.1.0
+     */
+    public void setStatusChangeFeedCapacity(int statusChangeFeedCapacity) {
+        this.statusChangeFeedCapacity = statusChangeFeedCapacity;
+    }
+
+    /**
+     * Gets the address of the embedded HTTP server exposing the job suite
+     * status while it executes.
+     * @return status server address, or <code>null</code> if disabled
+     * @since 4.1.0
+     */
+    public InetSocketAddress getStatusServerAddress() {
+        return statusServerAddress;
+    }
+    /**
+     * Sets the address of an embedded HTTP server exposing the job suite
+     * status while it executes: the job status tree as JSON
+     * ("/status"), a server-sent events stream of status changes
+     * ("/events"), and Prometheus metrics ("/metrics").  A port of zero
+     * picks any free port (see {@link JobSuite#getStatusServerAddress()}).
+     * Default is <code>null</code> (no server).
+     * @param statusServerAddress status server address
+     * @since 4.1.0
+     */
+    public void setStatusServerAddress(
+            InetSocketAddress statusServerAddress) {
+        this.statusServerAddress = statusServerAddress;
+    }
+
+    /**
+     * Gets the maximum number of status server event streams ("/events")
+     * open at once.
+     * @return maximum number of event streams
+     * @since 4.1.0
+     */
+    public int getStatusServerMaxEventStreams() {
+        return statusServerMaxEventStreams;
+    }
+    /**
+     * Sets the maximum number of status server event streams ("/events")
+     * open at once.  Each stream holds a thread while connected.  Clients
+     * requesting more get a "503 Service Unavailable" response.
+     * Default is {@value #DEFAULT_STATUS_SERVER_MAX_EVENT_STREAMS}.
+     * @param statusServerMaxEventStreams maximum number of event streams
+     * @since 4.1.0
+     */
+    public void setStatusServerMaxEventStreams(
+            int statusServerMaxEventStreams) {
+        this.statusServerMaxEventStreams = statusServerMaxEventStreams;
+    }
+
+    /**
+     * Gets the metrics recorded during job suite execution.
+     * @return metrics, or <code>null</code> if metrics are disabled
+     * @since 4.1.0
+     */
+    public IMetrics getMetrics() {
+        return metrics;
+    }
+    /**
+     * Sets the metrics recorded during job suite execution (see
+     * {@link com.norconex.jef4.metrics.MetricNames}).
+     * Default is <code>null</code> (no metrics recorded).
+     * @param metrics metrics
+     * @since 4.1.0
+     */
+    public void setMetrics(IMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    /**
+     * Gets whether the stop file is checked for every second instead of
+     * being watched for.
+     * @return <code>true</code> if polling for the stop file
+     * @since 4.1.0
+     */
+    public boolean isStopFilePolling() {
+        return stopFilePolling;
+    }
+    /**
+     * Sets whether the stop file is checked for every second instead of
+     * being watched for.  Watching detects stop files as soon as they
+     * are created, but some file systems (e.g. network file systems) do
+     * not report files created elsewhere, and some platforms only offer
+     * watching through polling less often.  Directories that cannot be
+     * watched are always polled.  Default is <code>false</code>.
+     * @param stopFilePolling <code>true</code> to poll for the stop file
+     * @since 4.1.0
+     */
+    public void setStopFilePolling(boolean stopFilePolling) {
+        this.stopFilePolling = stopFilePolling;
+    }
+
     public List<IJobLifeCycleListener> getJobLifeCycleListeners() {
         return jobLifeCycleListeners;
     }
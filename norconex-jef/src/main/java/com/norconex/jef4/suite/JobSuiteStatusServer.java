@@ -0,0 +1,431 @@
+/* Copyright 2026 Norconex Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.norconex.jef4.suite;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.regex.Pattern;
+
+import org.apache.commons.lang3.StringEscapeUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.math.NumberUtils;
+import org.apache.log4j.LogManager;
+import org.apache.log4j.Logger;
+
+import com.norconex.jef4.JEFException;
+import com.norconex.jef4.status.IJobStatus;
+import com.norconex.jef4.status.JobDuration;
+import com.norconex.jef4.status.JobState;
+import com.norconex.jef4.status.JobStatusChange;
+import com.norconex.jef4.status.JobSuiteStatusSnapshot;
+import com.norconex.jef4.status.MutableJobStatus;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * Embedded HTTP server exposing the status of a running job suite.
+ * Responses are built from the job statuses held in memory by the suite,
+ * without reading files or locking job threads.  Paths served:
+ * <ul>
+ *   <li><b>/status</b>: job status tree as JSON, with an ETag header
+ *       (SHA-1 digest) ignoring job last activities, which change with
+ *       every heartbeat.
+ *       Requests with a matching "If-None-Match" header get a
+ *       "304 Not Modified" response.</li>
+ *   <li><b>/events</b>: server-sent events stream of job status changes
+ *       (see {@link JobSuite#changesSince(long, long)}).  Event ids are
+ *       change versions, so reconnecting clients sending a
+ *       "Last-Event-ID" header only get changes they missed.  When
+ *       changes were missed that are no longer kept, a "truncated" event
+ *       with the oldest version kept comes first: clients should get the
+ *       status again before applying changes.  Streams
+ *       open at once are limited, others get a "503 Service Unavailable"
+ *       response.  Not found when the job suite status change feed is
+ *       disabled.</li>
+ *   <li><b>/metrics</b>: job metrics in Prometheus text format.</li>
+ * </ul>
+ * @author agent
+ * @since 4.1.0
+ * @see JobSuiteConfig#setStatusServerAddress(InetSocketAddress)
+ */
+@SuppressWarnings("nls")
+/*default*/ class JobSuiteStatusServer {
+
+    private static final Logger LOG =
+            LogManager.getLogger(JobSuiteStatusServer.class);
+
+    // Max milliseconds without writing to an event stream, so
+    // disconnected clients get detected.
+    private static final long KEEP_ALIVE_INTERVAL = 15000;
+
+    // Last activities are excluded from ETags so heartbeats alone do not
+    // make clients fetch an unchanged status again.
+    private static final Pattern LAST_ACTIVITY =
+            Pattern.compile(",\"lastActivity\":(?:null|\\d+)");
+
+    private final JobSuite suite;
+    private final InetSocketAddress address;
+    private final Semaphore eventStreams;
+    private HttpServer server;
+    private ExecutorService executor;
+
+    public JobSuiteStatusServer(JobSuite suite,
+            InetSocketAddress address, int maxEventStreams) {
+        super();
+        this.suite = suite;
+        this.address = address;
+        this.eventStreams = new Semaphore(Math.max(0, maxEventStreams));
+    }
+
+    public synchronized void start() {
+        if (server != null) {
+            return;
+        }
+        try {
+            server = HttpServer.create(address, 0);
+        } catch (IOException e) {
+            throw new JEFException(
+                    "Cannot start job suite status server on: " + address, e);
+        }
+        // Event streams each hold a thread while connected, up to
+        // the maximum number of event streams.
+        executor = Executors.newCachedThreadPool(new ThreadFactory() {
+            @Override
+            public Thread newThread(Runnable r) {
+                return suite.newThread(
+                        r, "JEF status server: " + suite.getId());
+            }
+        });
+        server.setExecutor(executor);
+        server.createContext("/status", new Handler() {
+            @Override
+            protected void handleGet(HttpExchange exchange)
+                    throws IOException {
+                sendStatus(exchange);
+            }
+        });
+        server.createContext("/events", new Handler() {
+            @Override
+            protected void handleGet(HttpExchange exchange)
+                    throws IOException {
+                sendEvents(exchange);
+            }
+        });
+        server.createContext("/metrics", new Handler() {
+            @Override
+            protected void handleGet(HttpExchange exchange)
+                    throws IOException {
+                sendMetrics(exchange);
+            }
+        });
+        server.start();
+        LOG.info("Job suite status server listening on: " + getAddress());
+    }
+
+    public synchronized void stop() {
+        if (server == null) {
+            return;
+        }
+        // Interrupts event streams so they end
+        executor.shutdownNow();
+        server.stop(0);
+        server = null;
+        executor = null;
+    }
+
+    /**
+     * Gets the address the server is listening on.
+     * @return address, or <code>null</code> if not started
+     */
+    public synchronized InetSocketAddress getAddress() {
+        if (server == null) {
+            return null;
+        }
+        return server.getAddress();
+    }
+
+    //--- /status --------------------------------------------------------------
+
+    private void sendStatus(HttpExchange exchange) throws IOException {
+        JobSuiteStatusSnapshot snapshot = suite.getJobSuiteStatusSnapshot();
+        StringBuilder b = new StringBuilder();
+        b.append("{\"suite\":");
+        appendString(b, suite.getId());
+        b.append(",\"root\":");
+        if (snapshot == null) {
+            b.append("null");
+        } else {
+            appendJobStatus(b, snapshot, snapshot.getRoot());
+        }
+        b.append('}');
+        String json = b.toString();
+        byte[] body = json.getBytes(StandardCharsets.UTF_8);
+        String tagged = LAST_ACTIVITY.matcher(json).replaceAll("");
+        String etag = "\"" + sha1(tagged) + "\"";
+        exchange.getResponseHeaders().set("ETag", etag);
+        exchange.getResponseHeaders().set("Cache-Control", "no-cache");
+        String ifNoneMatch =
+                exchange.getRequestHeaders().getFirst("If-None-Match");
+        if (ifNoneMatch != null && (ifNoneMatch.contains(etag)
+                || "*".equals(ifNoneMatch.trim()))) {
+            exchange.sendResponseHeaders(304, -1);
+            exchange.close();
+            return;
+        }
+        send(exchange, "application/json", body);
+    }
+
+    private void appendJobStatus(StringBuilder b,
+            JobSuiteStatusSnapshot snapshot, IJobStatus jobStatus) {
+        IJobStatus status = jobStatus;
+        if (status instanceof MutableJobStatus) {
+            // Consistent values, without blocking the job
+            status = ((MutableJobStatus) status).snapshot();
+        }
+        JobDuration duration = status.getDuration();
+        b.append("{\"id\":");
+        appendString(b, status.getJobId());
+        b.append(",\"state\":\"").append(status.getState());
+        b.append("\",\"progress\":").append(status.getProgress());
+        b.append(",\"note\":");
+        appendString(b, status.getNote());
+        b.append(",\"resumeAttempts\":").append(status.getResumeAttempts());
+        b.append(",\"startTime\":");
+        appendTime(b, duration.getStartTimeMillis());
+        b.append(",\"endTime\":");
+        appendTime(b, duration.getEndTimeMillis());
+        if (status instanceof MutableJobStatus) {
+            b.append(",\"lastActivity\":");
+            appendTime(b,
+                    ((MutableJobStatus) status).getLastActivityMillis());
+        }
+        b.append(",\"children\":[");
+        List<IJobStatus> children = snapshot.getChildren(jobStatus);
+        for (int i = 0; i < children.size(); i++) {
+            if (i > 0) {
+                b.append(',');
+            }
+            appendJobStatus(b, snapshot, children.get(i));
+        }
+        b.append("]}");
+    }
+
+    //--- /events --------------------------------------------------------------
+
+    private void sendEvents(HttpExchange exchange) throws IOException {
+        if (suite.getConfig().getStatusChangeFeedCapacity() <= 0) {
+            // No change feed, no changes to stream
+            exchange.sendResponseHeaders(404, -1);
+            return;
+        }
+        if (!eventStreams.tryAcquire()) {
+            exchange.getResponseHeaders().set("Retry-After",
+                    Long.toString(KEEP_ALIVE_INTERVAL / 1000));
+            exchange.sendResponseHeaders(503, -1);
+            return;
+        }
+        try {
+            streamEvents(exchange);
+        } finally {
+            eventStreams.release();
+        }
+    }
+    private void streamEvents(HttpExchange exchange) throws IOException {
+        long version = NumberUtils.toLong(
+                exchange.getRequestHeaders().getFirst("Last-Event-ID"), 0);
+        exchange.getResponseHeaders().set(
+                "Content-Type", "text/event-stream; charset=UTF-8");
+        exchange.getResponseHeaders().set("Cache-Control", "no-cache");
+        exchange.sendResponseHeaders(200, 0);
+        try (OutputStream out = exchange.getResponseBody()) {
+            while (!Thread.currentThread().isInterrupted()) {
+                List<JobStatusChange> changes =
+                        suite.changesSince(version, KEEP_ALIVE_INTERVAL);
+                StringBuilder b = new StringBuilder();
+                if (changes.isEmpty()) {
+                    b.append(":\n\n");
+                } else if (changes.get(0).getVersion() > version + 1) {
+                    b.append("event: truncated\ndata: {\"oldestVersion\":");
+                    b.append(changes.get(0).getVersion()).append("}\n\n");
+                }
+                for (JobStatusChange change : changes) {
+                    b.append("id: ").append(change.getVersion());
+                    b.append("\nevent: status\ndata: {\"id\":");
+                    appendString(b, change.getJobId());
+                    b.append(",\"state\":\"").append(change.getState());
+                    b.append("\",\"progress\":").append(change.getProgress());
+                    b.append(",\"note\":");
+                    appendString(b, change.getNote());
+                    b.append("}\n\n");
+                    version = change.getVersion();
+                }
+                out.write(b.toString().getBytes(StandardCharsets.UTF_8));
+                out.flush();
+            }
+        } catch (IOException e) {
+            LOG.debug("Status event stream closed.", e);
+        }
+    }
+
+    //--- /metrics -------------------------------------------------------------
+
+    private void sendMetrics(HttpExchange exchange) throws IOException {
+        JobSuiteStatusSnapshot snapshot = suite.getJobSuiteStatusSnapshot();
+        StringBuilder progress = new StringBuilder();
+        StringBuilder state = new StringBuilder();
+        StringBuilder elapsed = new StringBuilder();
+        long now = System.currentTimeMillis();
+        List<IJobStatus> statuses = snapshot == null
+                ? Collections.<IJobStatus>emptyList()
+                : snapshot.getJobStatusList();
+        for (IJobStatus status : statuses) {
+            String labels = "suite=\"" + escapeLabel(suite.getId())
+                    + "\",job=\"" + escapeLabel(status.getJobId()) + "\"";
+            progress.append("jef_job_progress{").append(labels)
+                    .append("} ").append(status.getProgress()).append('\n');
+            JobState jobState = status.getState();
+            for (JobState s : JobState.values()) {
+                state.append("jef_job_state{").append(labels)
+                        .append(",state=\"").append(s).append("\"} ")
+                        .append(s == jobState ? 1 : 0).append('\n');
+            }
+            JobDuration duration = status.getDuration();
+            long start = duration.getStartTimeMillis();
+            long end = duration.getEndTimeMillis();
+            if (start != -1) {
+                elapsed.append("jef_job_elapsed_seconds{").append(labels)
+                        .append("} ").append(((end == -1 ? now : end)
+                                - start) / 1000d).append('\n');
+            }
+        }
+        StringBuilder b = new StringBuilder();
+        appendMetric(b, "jef_job_progress", "gauge",
+                "Job progress, from 0 to 1.", progress);
+        appendMetric(b, "jef_job_state", "gauge",
+                "Job state, 1 for the current state of a job.", state);
+        appendMetric(b, "jef_job_elapsed_seconds", "gauge",
+                "Seconds elapsed since a job started, until it ended.",
+                elapsed);
+        EventBusStats stats = suite.getEventBusStats();
+        if (stats != null) {
+            String labels = "{suite=\"" + escapeLabel(suite.getId()) + "\"} ";
+            appendMetric(b, "jef_event_bus_queue_depth", "gauge",
+                    "Listener events waiting to be delivered.",
+                    "jef_event_bus_queue_depth" + labels
+                            + stats.getQueueDepth() + "\n");
+            appendMetric(b, "jef_event_bus_delivered_total", "counter",
+                    "Listener events delivered.",
+                    "jef_event_bus_delivered_total" + labels
+                            + stats.getDeliveredCount() + "\n");
+            appendMetric(b, "jef_event_bus_dropped_total", "counter",
+                    "Listener events dropped.",
+                    "jef_event_bus_dropped_total" + labels
+                            + stats.getDroppedCount() + "\n");
+        }
+        send(exchange, "text/plain; version=0.0.4",
+                b.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void appendMetric(StringBuilder b, String name,
+            String type, String help, CharSequence samples) {
+        b.append("# HELP ").append(name).append(' ').append(help);
+        b.append("\n# TYPE ").append(name).append(' ').append(type);
+        b.append('\n').append(samples);
+    }
+    private static String escapeLabel(String value) {
+        return StringUtils.replaceEach(value,
+                new String[] { "\\", "\"", "\n" },
+                new String[] { "\\\\", "\\\"", "\\n" });
+    }
+
+    //--- Utility methods ------------------------------------------------------
+
+    private static void appendString(StringBuilder b, String value) {
+        if (value == null) {
+            b.append("null");
+        } else {
+            b.append('"').append(StringEscapeUtils.escapeJson(value))
+                    .append('"');
+        }
+    }
+    private static String sha1(String value) {
+        byte[] digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-1").digest(
+                    value.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new JEFException("SHA-1 not supported.", e);
+        }
+        StringBuilder b = new StringBuilder(digest.length * 2);
+        for (byte d : digest) {
+            b.append(Character.forDigit((d >> 4) & 0xF, 16));
+            b.append(Character.forDigit(d & 0xF, 16));
+        }
+        return b.toString();
+    }
+    private static void appendTime(StringBuilder b, long time) {
+        if (time == -1) {
+            b.append("null");
+        } else {
+            b.append(time);
+        }
+    }
+
+    private static void send(HttpExchange exchange,
+            String contentType, byte[] body) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type",
+                contentType + "; charset=UTF-8");
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    private abstract static class Handler implements HttpHandler {
+        @Override
+        public void handle(HttpExchange exchange) throws IOException {
+            try {
+                if (!"GET".equals(exchange.getRequestMethod())) {
+                    exchange.getResponseHeaders().set("Allow", "GET");
+                    exchange.sendResponseHeaders(405, -1);
+                } else if (!exchange.getRequestURI().getPath().equals(
+                        exchange.getHttpContext().getPath())) {
+                    exchange.sendResponseHeaders(404, -1);
+                } else {
+                    handleGet(exchange);
+                }
+            } catch (IOException | RuntimeException e) {
+                LOG.error("Cannot serve job suite status request: "
+                        + exchange.getRequestURI(), e);
+                throw e;
+            } finally {
+                exchange.close();
+            }
+        }
+        protected abstract void handleGet(HttpExchange exchange)
+                throws IOException;
+    }
+}
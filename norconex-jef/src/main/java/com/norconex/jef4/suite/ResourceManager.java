@@ -0,0 +1,152 @@
+/* Copyright 2026 Norconex Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.norconex.jef4.suite;
+
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.Map;
+import java.util.Queue;
+
+import com.norconex.jef4.job.JobException;
+import com.norconex.jef4.status.MutableJobStatus;
+
+/**
+ * Grants resources from named pools of a job suite.  Requests are
+ * granted all at once, in the order they were made: a request waits 
+ * for requests made before it, even if the resources it needs are
+ * available, so requests for many resources are not starved by smaller
+ * ones.  Requests waiting on behalf of a job give up once that job is
+ * requested to stop.
+ * @author agent
+ * @since 4.1.0
+ */
+@SuppressWarnings("nls")
+/*default*/ class ResourceManager {
+
+    // How often waiting requests check for stop requests
+    /*default*/ static final long STOP_CHECK_INTERVAL = 1000;
+
+    private final Map<String, Integer> capacities;
+    // Guarded by "this"
+    private final Map<String, Integer> available;
+    private final Queue<Object> waiting = new LinkedList<>();
+
+    public ResourceManager(Map<String, Integer> capacities) {
+        super();
+        this.capacities = new HashMap<>(capacities);
+        this.available = new HashMap<>(capacities);
+    }
+
+    /**
+     * Waits until the given resources can be granted, and takes them.
+     * @param resources amount of resources, keyed by pool name
+     * @throws InterruptedException interrupted while waiting
+     * @throws JobException if resources can never be granted
+     * @throws IllegalArgumentException if an amount is null or negative
+     */
+    public void acquire(Map<String, Integer> resources)
+            throws InterruptedException {
+        acquire(resources, null);
+    }
+
+    /**
+     * Waits until the given resources can be granted, and takes them,
+     * unless the given job status gets a stop request first.
+     * @param resources amount of resources, keyed by pool name
+     * @param status status of the job waiting (may be <code>null</code>)
+     * @return <code>true</code> if resources were taken, <code>false</code>
+     *         if the job was requested to stop before they could be
+     * @throws InterruptedException interrupted while waiting
+     * @throws JobException if resources can never be granted
+     * @throws IllegalArgumentException if an amount is null or negative
+     */
+    public synchronized boolean acquire(Map<String, Integer> resources,
+            MutableJobStatus status) throws InterruptedException {
+        for (Map.Entry<String, Integer> entry : resources.entrySet()) {
+            if (entry.getValue() == null || entry.getValue() < 0) {
+                throw new IllegalArgumentException("Invalid amount of "
+                        + "resource \"" + entry.getKey() + "\": "
+                        + entry.getValue());
+            }
+            Integer capacity = capacities.get(entry.getKey());
+            if (capacity == null) {
+                throw new JobException(
+                        "No such resource pool: " + entry.getKey());
+            }
+            if (entry.getValue() > capacity) {
+                throw new JobException("Requires " + entry.getValue()
+                        + " of resource \"" + entry.getKey()
+                        + "\" but pool capacity is " + capacity + ".");
+            }
+        }
+        // Resource maps may be shared by jobs, so each request gets its own
+        // ticket in the queue.
+        Object ticket = new Object();
+        waiting.add(ticket);
+        try {
+            while (waiting.peek() != ticket || !isAvailable(resources)) {
+                if (isStopRequested(status)) {
+                    return false;
+                }
+                wait(STOP_CHECK_INTERVAL);
+            }
+            if (isStopRequested(status)) {
+                return false;
+            }
+        } finally {
+            waiting.remove(ticket);
+            // Next request may be available
+            notifyAll();
+        }
+        for (Map.Entry<String, Integer> entry : resources.entrySet()) {
+            available.put(entry.getKey(), 
+                    available.get(entry.getKey()) - entry.getValue());
+        }
+        return true;
+    }
+
+    /**
+     * Gives back resources previously acquired.
+     * @param resources amount of resources, keyed by pool name
+     */
+    public synchronized void release(Map<String, Integer> resources) {
+        for (Map.Entry<String, Integer> entry : resources.entrySet()) {
+            available.put(entry.getKey(), 
+                    available.get(entry.getKey()) + entry.getValue());
+        }
+        notifyAll();
+    }
+
+    /**
+     * Gets the amount of resources currently available, per pool.
+     * @return available resources
+     */
+    public synchronized Map<String, Integer> getAvailable() {
+        return new HashMap<>(available);
+    }
+
+    private boolean isStopRequested(MutableJobStatus status) {
+        return status != null && status.isStopRequested();
+    }
+
+    private boolean isAvailable(Map<String, Integer> resources) {
+        for (Map.Entry<String, Integer> entry : resources.entrySet()) {
+            if (available.get(entry.getKey()) < entry.getValue()) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
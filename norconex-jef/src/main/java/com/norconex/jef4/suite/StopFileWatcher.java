@@ -0,0 +1,240 @@
+/* Copyright 2026 Norconex Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.norconex.jef4.suite;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.OVERFLOW;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.log4j.LogManager;
+import org.apache.log4j.Logger;
+
+/**
+ * Detects stop files for all job suites running in this JVM, using a
+ * single thread.  Directories containing stop files are watched for file
+ * creation with a {@link WatchService}.  When a directory cannot be
+ * watched, or polling is requested (e.g. for file systems not reporting
+ * file creation, or only through a slow polling watch service), stop
+ * files are instead checked for existence every second by a single
+ * polling thread.
+ * @author agent
+ * @since 4.1.0
+ */
+@SuppressWarnings("nls")
+/*default*/ final class StopFileWatcher {
+
+    private static final Logger LOG =
+            LogManager.getLogger(StopFileWatcher.class);
+
+    private static final long POLL_INTERVAL = 1000;
+    private static final StopFileWatcher INSTANCE = new StopFileWatcher();
+
+    // Guarded by "this"
+    private final Map<Path, StopRequestMonitor> watched = new HashMap<>();
+    private final Map<Path, WatchKey> keys = new HashMap<>();
+    private WatchService watchService;
+    private boolean watchUnsupported;
+
+    private final Set<StopRequestMonitor> polled = Collections.newSetFromMap(
+            new ConcurrentHashMap<StopRequestMonitor, Boolean>());
+    private ScheduledExecutorService poller;
+
+    private StopFileWatcher() {
+        super();
+    }
+
+    /*default*/ static StopFileWatcher getInstance() {
+        return INSTANCE;
+    }
+
+    /*default*/ void register(StopRequestMonitor monitor, boolean polling) {
+        Path stopFile = monitor.getStopFile().toPath().toAbsolutePath();
+        synchronized (this) {
+            if (polling || !watch(stopFile, monitor)) {
+                poll(monitor);
+            }
+        }
+        // Stop file may have been created before we started watching
+        if (monitor.getStopFile().exists()) {
+            monitor.stopRequested();
+        }
+    }
+
+    /*default*/ synchronized void unregister(StopRequestMonitor monitor) {
+        Path stopFile = monitor.getStopFile().toPath().toAbsolutePath();
+        if (watched.remove(stopFile) != null) {
+            Path dir = stopFile.getParent();
+            if (!hasWatchedFile(dir)) {
+                WatchKey key = keys.remove(dir);
+                if (key != null) {
+                    key.cancel();
+                }
+            }
+        }
+        polled.remove(monitor);
+    }
+
+    private boolean watch(Path stopFile, StopRequestMonitor monitor) {
+        WatchService service = getWatchService();
+        if (service == null) {
+            return false;
+        }
+        Path dir = stopFile.getParent();
+        if (!keys.containsKey(dir)) {
+            try {
+                keys.put(dir, dir.register(service, ENTRY_CREATE));
+            } catch (IOException | UnsupportedOperationException e) {
+                LOG.debug("Cannot watch directory for stop files, "
+                        + "falling back to polling: " + dir, e);
+                return false;
+            }
+        }
+        watched.put(stopFile, monitor);
+        return true;
+    }
+
+    private void poll(StopRequestMonitor monitor) {
+        polled.add(monitor);
+        if (poller == null) {
+            poller = Executors.newSingleThreadScheduledExecutor(
+                    daemonThreadFactory("JEF stop file poller"));
+            poller.scheduleWithFixedDelay(new Runnable() {
+                @Override
+                public void run() {
+                    for (StopRequestMonitor m : polled) {
+                        if (m.getStopFile().exists()) {
+                            m.stopRequested();
+                        }
+                    }
+                }
+            }, POLL_INTERVAL, POLL_INTERVAL, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private WatchService getWatchService() {
+        if (watchService != null || watchUnsupported) {
+            return watchService;
+        }
+        try {
+            watchService = FileSystems.getDefault().newWatchService();
+        } catch (IOException | UnsupportedOperationException e) {
+            LOG.debug("No watch service available, polling for stop files.",
+                    e);
+            watchUnsupported = true;
+            return null;
+        }
+        Thread watcher = daemonThreadFactory(
+                "JEF stop file watcher").newThread(new Runnable() {
+            @Override
+            public void run() {
+                processEvents();
+            }
+        });
+        watcher.start();
+        return watchService;
+    }
+
+    private void processEvents() {
+        while (true) {
+            WatchKey key;
+            try {
+                key = watchService.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (ClosedWatchServiceException e) {
+                return;
+            }
+            Path dir = (Path) key.watchable();
+            List<StopRequestMonitor> requested = new ArrayList<>();
+            synchronized (this) {
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    if (event.kind() == OVERFLOW) {
+                        requested.addAll(existingStopFiles(dir));
+                    } else {
+                        StopRequestMonitor monitor = watched.get(
+                                dir.resolve((Path) event.context()));
+                        if (monitor != null) {
+                            requested.add(monitor);
+                        }
+                    }
+                }
+                if (!key.reset() && keys.get(dir) == key) {
+                    // Directory no longer accessible, poll instead
+                    keys.remove(dir);
+                    for (StopRequestMonitor monitor : watchedFiles(dir)) {
+                        watched.remove(monitor.getStopFile().toPath()
+                                .toAbsolutePath());
+                        poll(monitor);
+                    }
+                }
+            }
+            for (StopRequestMonitor monitor : requested) {
+                monitor.stopRequested();
+            }
+        }
+    }
+
+    private boolean hasWatchedFile(Path dir) {
+        return !watchedFiles(dir).isEmpty();
+    }
+    private List<StopRequestMonitor> watchedFiles(Path dir) {
+        List<StopRequestMonitor> monitors = new ArrayList<>();
+        for (Map.Entry<Path, StopRequestMonitor> entry : watched.entrySet()) {
+            if (dir.equals(entry.getKey().getParent())) {
+                monitors.add(entry.getValue());
+            }
+        }
+        return monitors;
+    }
+    private List<StopRequestMonitor> existingStopFiles(Path dir) {
+        List<StopRequestMonitor> monitors = new ArrayList<>();
+        for (StopRequestMonitor monitor : watchedFiles(dir)) {
+            if (monitor.getStopFile().exists()) {
+                monitors.add(monitor);
+            }
+        }
+        return monitors;
+    }
+
+    private static ThreadFactory daemonThreadFactory(final String name) {
+        return new ThreadFactory() {
+            @Override
+            public Thread newThread(Runnable r) {
+                Thread thread = new Thread(r, name);
+                thread.setDaemon(true);
+                return thread;
+            }
+        };
+    }
+}
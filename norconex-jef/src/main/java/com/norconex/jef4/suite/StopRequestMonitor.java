@@ -16,15 +16,17 @@ package com.norconex.jef4.suite;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.apache.log4j.LogManager;
 import org.apache.log4j.Logger;
 
-import com.norconex.commons.lang.Sleeper;
 import com.norconex.commons.lang.file.FileUtil;
 import com.norconex.jef4.JEFException;
 import com.norconex.jef4.job.IJob;
-import com.norconex.jef4.job.IJobLifeCycleListener;
 import com.norconex.jef4.job.IJobVisitor;
 import com.norconex.jef4.status.IJobStatus;
 import com.norconex.jef4.status.JobState;
@@ -34,21 +36,29 @@ import com.norconex.jef4.status.MutableJobStatus;
  * Listens for STOP requests using a stop file.  The stop file
  * file name matches the suite namespace, plus the ".stop" extension.  
  * The directory where to locate the file depends on the constructor invoked.
+ * <br><br>
+ * As of 4.1.0, stop files of all suites are detected by a single
+ * shared thread, reacting to file creation when the file system
+ * supports it, and checking every second otherwise
+ * (see {@link JobSuiteConfig#setStopFilePolling(boolean)}).
+ * This class no longer
+ * extends {@link Thread}.
  *
  * @author Pascal Essiembre
  * @since 2.0
  */
 @SuppressWarnings("nls")
-public class StopRequestMonitor extends Thread {
+public class StopRequestMonitor {
 
     /** Logger. */
     private static final Logger LOG =
             LogManager.getLogger(StopRequestMonitor.class);
-    private static final int STOP_WAIT_DELAY = 3;
+    // Maximum number of jobs being asked to stop at once
+    private static final int MAX_STOP_THREADS = 8;
     
     private final File stopFile;
     private final JobSuite suite;
-    private boolean monitoring = false;
+    private final AtomicBoolean monitoring = new AtomicBoolean();
     
 
     public StopRequestMonitor(JobSuite suite) {
@@ -57,20 +67,42 @@ public class StopRequestMonitor extends Thread {
     }
 
 
-    @Override
-    public void run() {
-        monitoring = true;
-        while(monitoring) {
-            if (stopFile.exists()) {
-                stopMonitoring();
-                stopSuite();
-            }
-            Sleeper.sleepSeconds(1);
+    /**
+     * Starts listening for STOP requests.
+     */
+    public void start() {
+        if (monitoring.compareAndSet(false, true)) {
+            StopFileWatcher.getInstance().register(
+                    this, suite.getConfig().isStopFilePolling());
         }
     }
     
-    public synchronized void stopMonitoring() {
-        monitoring = false;
+    public void stopMonitoring() {
+        monitoring.set(false);
+        StopFileWatcher.getInstance().unregister(this);
+        deleteStopFile();
+    }
+
+    /*default*/ File getStopFile() {
+        return stopFile;
+    }
+
+    /*default*/ void stopRequested() {
+        if (!monitoring.compareAndSet(true, false)) {
+            return;
+        }
+        StopFileWatcher.getInstance().unregister(this);
+        deleteStopFile();
+        // Do not hold the thread shared by all monitors.
+        suite.newThread(new Runnable() {
+            @Override
+            public void run() {
+                stopSuite();
+            }
+        }, "JEF stop request: " + suite.getId()).start();
+    }
+
+    private void deleteStopFile() {
         if (stopFile.exists()) {
             try {
                 FileUtil.delete(stopFile);
@@ -83,47 +115,52 @@ public class StopRequestMonitor extends Thread {
 
  
     private void stopSuite() {
-        monitoring = false;
         LOG.info("STOP request received.");
+        suite.getStatusWriter().flushAll();
         
         /// Notify Suite Life Cycle listeners
-        for (ISuiteLifeCycleListener l : suite.getSuiteLifeCycleListeners()) {
-            l.suiteStopping(suite);
-        }
+        suite.fireSuiteEvent(SuiteLifeCycleEvent.STOPPING);
         
         /// Notify Job Life Cycle listeners and stop them
+        final ExecutorService executor = Executors.newFixedThreadPool(
+                MAX_STOP_THREADS, new ThreadFactory() {
+            @Override
+            public Thread newThread(Runnable r) {
+                return suite.newThread(r, "JEF stop job: " + suite.getId());
+            }
+        });
         suite.accept(new IJobVisitor() {
             @Override
             public void visitJob(final IJob job, final IJobStatus jobStatus) {
-                for (IJobLifeCycleListener l : 
-                        suite.getJobLifeCycleListeners()) {
-                    l.jobStopping(jobStatus);
-                }
-                new Thread(){
+                ((MutableJobStatus) jobStatus).setStopRequested(true);
+                suite.fireJobEvent(JobLifeCycleEvent.STOPPING, jobStatus);
+                executor.execute(new Runnable() {
                     @Override
                     public void run() {
                         stopJob(job, jobStatus);
                     }
-                }.start();                
+                });
             }
         });
+        executor.shutdown();
     }
+    // Jobs are not waited for: the suite notifies us when they return.
     private void stopJob(final IJob job, final IJobStatus status) {
-        ((MutableJobStatus) status).setStopRequested(true);
+        // Registered first so a job returning right away gets notified
+        // by its own thread, before the suite execution returns.
+        suite.whenJobEnded(job.getId(), new Runnable() {
+            @Override
+            public void run() {
+                jobEnded(job, status);
+            }
+        });
         job.stop(status, suite);
-        while (status.getState() == JobState.RUNNING) {
-            Sleeper.sleepSeconds(STOP_WAIT_DELAY);
-        }
+    }
+    private void jobEnded(IJob job, IJobStatus status) {
         if (status.getState() == JobState.STOPPED) {
-            for (IJobLifeCycleListener l : 
-                    suite.getJobLifeCycleListeners()) {
-                l.jobStopped(status);
-            }
+            suite.fireJobEvent(JobLifeCycleEvent.STOPPED, status);
             if (job.getId().equals(suite.getRootJob().getId())) {
-                for (ISuiteLifeCycleListener l : 
-                        suite.getSuiteLifeCycleListeners()) {
-                    l.suiteStopped(suite);
-                }
+                suite.fireSuiteEvent(SuiteLifeCycleEvent.STOPPED);
             }
         }
     }
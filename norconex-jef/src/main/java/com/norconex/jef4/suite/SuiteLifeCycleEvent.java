@@ -0,0 +1,62 @@
+/* Copyright 2026 Norconex Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.norconex.jef4.suite;
+
+/**
+ * Job suite life cycle events, each invoking the matching
+ * {@link ISuiteLifeCycleListener} method directly.
+ * @author agent
+ * @since 4.1.0
+ */
+/*default*/ enum SuiteLifeCycleEvent {
+    STOPPED {
+        @Override
+        void fire(ISuiteLifeCycleListener listener, JobSuite suite) {
+            listener.suiteStopped(suite);
+        }
+    },
+    STOPPING {
+        @Override
+        void fire(ISuiteLifeCycleListener listener, JobSuite suite) {
+            listener.suiteStopping(suite);
+        }
+    },
+    STARTED {
+        @Override
+        void fire(ISuiteLifeCycleListener listener, JobSuite suite) {
+            listener.suiteStarted(suite);
+        }
+    },
+    ABORTED {
+        @Override
+        void fire(ISuiteLifeCycleListener listener, JobSuite suite) {
+            listener.suiteAborted(suite);
+        }
+    },
+    TERMINATED_PREMATURALY {
+        @Override
+        void fire(ISuiteLifeCycleListener listener, JobSuite suite) {
+            listener.suiteTerminatedPrematuraly(suite);
+        }
+    },
+    COMPLETED {
+        @Override
+        void fire(ISuiteLifeCycleListener listener, JobSuite suite) {
+            listener.suiteCompleted(suite);
+        }
+    };
+
+    abstract void fire(ISuiteLifeCycleListener listener, JobSuite suite);
+}
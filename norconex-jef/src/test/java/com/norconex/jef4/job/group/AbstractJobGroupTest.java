@@ -0,0 +1,181 @@
+/* Copyright 2026 Norconex Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.norconex.jef4.job.group;
+
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.norconex.jef4.job.AbstractJob;
+import com.norconex.jef4.job.IJob;
+import com.norconex.jef4.job.IWeightedJob;
+import com.norconex.jef4.status.IJobStatus;
+import com.norconex.jef4.status.JobStatusUpdater;
+import com.norconex.jef4.status.MutableJobStatus;
+import com.norconex.jef4.suite.JobSuite;
+
+public class AbstractJobGroupTest {
+
+    private static final int CHILDREN = 2000;
+    private static final int THREADS = 8;
+    private static final int UPDATES_PER_THREAD = 50000;
+
+    @Test
+    public void testConcurrentGroupProgress() throws InterruptedException {
+        IJob[] jobs = new IJob[CHILDREN];
+        for (int i = 0; i < CHILDREN; i++) {
+            jobs[i] = new NoopJob("job" + i);
+        }
+        final AbstractJobGroup group = new AbstractJobGroup("group", jobs) {
+            @Override
+            public void executeGroup(JobSuite suite) {
+                // Children statuses are updated by the test
+            }
+        };
+        final MutableJobStatus groupStatus = new MutableJobStatus("group");
+        group.execute(new JobStatusUpdater(groupStatus) {
+            @Override
+            protected void statusUpdated(MutableJobStatus status) {
+                // nothing to persist
+            }
+        }, null);
+
+        // Each thread owns a slice of children, updated randomly,
+        // with its final update setting a known progress.
+        final MutableJobStatus[] statuses = new MutableJobStatus[CHILDREN];
+        for (int i = 0; i < CHILDREN; i++) {
+            statuses[i] = new MutableJobStatus("job" + i);
+        }
+        final CountDownLatch start = new CountDownLatch(1);
+        Thread[] threads = new Thread[THREADS];
+        for (int t = 0; t < THREADS; t++) {
+            final int slice = t;
+            threads[t] = new Thread() {
+                @Override
+                public void run() {
+                    Random random = new Random(slice);
+                    try {
+                        start.await();
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                    for (int i = 0; i < UPDATES_PER_THREAD; i++) {
+                        int child = slice + THREADS
+                                * random.nextInt(CHILDREN / THREADS);
+                        update(group, statuses[child], random.nextDouble());
+                    }
+                    for (int child = slice; child < CHILDREN; 
+                            child += THREADS) {
+                        update(group, statuses[child], finalProgress(child));
+                    }
+                }
+            };
+            threads[t].start();
+        }
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        double total = 0;
+        int completed = 0;
+        for (int i = 0; i < CHILDREN; i++) {
+            total += finalProgress(i);
+            if (finalProgress(i) >= 1d) {
+                completed++;
+            }
+        }
+        Assert.assertEquals(
+                total / CHILDREN, groupStatus.getProgress(), 1e-9);
+        Assert.assertEquals(completed + " of " + CHILDREN + " jobs completed.",
+                groupStatus.getNote());
+
+        // All children completed makes the group exactly complete
+        for (int i = 0; i < CHILDREN; i++) {
+            update(group, statuses[i], 1d);
+        }
+        Assert.assertEquals(1d, groupStatus.getProgress(), 0d);
+        Assert.assertTrue(groupStatus.isCompleted());
+    }
+
+    @Test
+    public void testWeightedGroupProgress() {
+        AbstractJobGroup group = new AbstractJobGroup("group",
+                new WeightedJob("heavy", 3d), new NoopJob("light")) {
+            @Override
+            public void executeGroup(JobSuite suite) {
+                // Children statuses are updated by the test
+            }
+        };
+        final MutableJobStatus groupStatus = new MutableJobStatus("group");
+        group.execute(new JobStatusUpdater(groupStatus) {
+            @Override
+            protected void statusUpdated(MutableJobStatus status) {
+                // nothing to persist
+            }
+        }, null);
+        MutableJobStatus heavy = new MutableJobStatus("heavy");
+        MutableJobStatus light = new MutableJobStatus("light");
+        update(group, heavy, 0.5d);
+        Assert.assertEquals(0.375d, groupStatus.getProgress(), 1e-9);
+        update(group, light, 1d);
+        Assert.assertEquals(0.625d, groupStatus.getProgress(), 1e-9);
+        update(group, heavy, 1d);
+        Assert.assertEquals(1d, groupStatus.getProgress(), 0d);
+    }
+
+    private static double finalProgress(int child) {
+        return child % 3 == 0 ? 1d : (child % 100) / 100d;
+    }
+
+    private static void update(
+            AbstractJobGroup group, MutableJobStatus status, double progress) {
+        // Each child status is only updated by one thread
+        status.setProgress(progress);
+        group.groupProgressed(status);
+    }
+
+    private static class NoopJob extends AbstractJob {
+        public NoopJob(String id) {
+            super(id);
+        }
+        @Override
+        public void execute(JobStatusUpdater statusUpdater, JobSuite suite) {
+            // not executed
+        }
+        @Override
+        public void stop(IJobStatus status, JobSuite suite) {
+            // not stoppable
+        }
+    }
+
+    private static class WeightedJob extends NoopJob implements IWeightedJob {
+        private final double weight;
+        public WeightedJob(String id, double weight) {
+            super(id);
+            this.weight = weight;
+        }
+        @Override
+        public int getPriority() {
+            return 0;
+        }
+        @Override
+        public double getWeight() {
+            return weight;
+        }
+    }
+}
@@ -0,0 +1,122 @@
+/* Copyright 2026 Norconex Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.norconex.jef4.job.group;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.norconex.jef4.job.group.AdaptiveConcurrencyStats.Decision;
+import com.norconex.jef4.metrics.HistogramMetrics;
+import com.norconex.jef4.metrics.IMetrics;
+import com.norconex.jef4.metrics.MetricNames;
+
+public class AdaptiveConcurrencyLimiterTest {
+
+    private volatile double cpuLoad = 0.1;
+    private volatile double freeMemory = 0.9;
+
+    @Test
+    public void testIncreaseAndDecrease() throws InterruptedException {
+        AdaptiveConcurrencyConfig config = new AdaptiveConcurrencyConfig();
+        config.setAdjustInterval(0);
+        final AdaptiveConcurrencyLimiter limiter = newLimiter(config, null);
+        Assert.assertEquals(1, limiter.getStats().getLimit());
+
+        // A job waiting while the limit is reached increases it
+        limiter.acquire();
+        Thread waiting = new Thread() {
+            @Override
+            public void run() {
+                try {
+                    limiter.acquire();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        };
+        waiting.start();
+        waiting.join(5000);
+        Assert.assertFalse(waiting.isAlive());
+        AdaptiveConcurrencyStats stats = limiter.getStats();
+        Assert.assertEquals(2, stats.getLimit());
+        Assert.assertEquals(2, stats.getRunning());
+        Assert.assertEquals(1, stats.getIncreaseCount());
+
+        // High CPU load decreases it, not below the minimum
+        cpuLoad = 3;
+        limiter.release();
+        stats = limiter.getStats();
+        Assert.assertEquals(1, stats.getLimit());
+        Assert.assertEquals(Decision.DECREASE_CPU, stats.getLastDecision());
+        Assert.assertEquals(1, stats.getDecreaseCount());
+        limiter.release();
+        Assert.assertEquals(1, limiter.getStats().getLimit());
+        Assert.assertEquals(Decision.HOLD, 
+                limiter.getStats().getLastDecision());
+    }
+
+    @Test
+    public void testCpuCooldown() throws InterruptedException {
+        HistogramMetrics metrics = new HistogramMetrics();
+        AdaptiveConcurrencyConfig config = new AdaptiveConcurrencyConfig();
+        config.setAdjustInterval(0);
+        AdaptiveConcurrencyLimiter limiter = newLimiter(config, metrics);
+        // Waiting for itself while the limit is reached increases it
+        for (int i = 0; i < 4; i++) {
+            limiter.acquire();
+        }
+        Assert.assertEquals(4, limiter.getStats().getLimit());
+        Assert.assertEquals(4, metrics.getGauge(
+                MetricNames.GROUP_CONCURRENCY_LIMIT));
+
+        // Load average has yet to reflect the first decrease
+        cpuLoad = 3;
+        limiter.release();
+        Assert.assertEquals(2, limiter.getStats().getLimit());
+        limiter.release();
+        Assert.assertEquals(2, limiter.getStats().getLimit());
+        Assert.assertEquals(Decision.HOLD, 
+                limiter.getStats().getLastDecision());
+        Assert.assertEquals(2, metrics.getGauge(
+                MetricNames.GROUP_CONCURRENCY_LIMIT));
+        Assert.assertEquals(3, metrics.getCounter(
+                MetricNames.GROUP_CONCURRENCY_DECISIONS + Decision.INCREASE));
+        Assert.assertEquals(1, metrics.getCounter(
+                MetricNames.GROUP_CONCURRENCY_DECISIONS 
+                        + Decision.DECREASE_CPU));
+
+        // Without cooldown, it decreases again
+        config.setCpuCooldown(0);
+        limiter.release();
+        Assert.assertEquals(1, limiter.getStats().getLimit());
+        limiter.close();
+        Assert.assertEquals(0, metrics.getGauge(
+                MetricNames.GROUP_CONCURRENCY_LIMIT));
+    }
+
+    private AdaptiveConcurrencyLimiter newLimiter(
+            AdaptiveConcurrencyConfig config, IMetrics metrics) {
+        return new AdaptiveConcurrencyLimiter(config, 4, metrics) {
+            @Override
+            protected double sampleCpuLoad() {
+                return cpuLoad;
+            }
+            @Override
+            protected double sampleFreeMemory() {
+                return freeMemory;
+            }
+        };
+    }
+}
@@ -16,16 +16,36 @@ package com.norconex.jef4.job.group;
 
 import static org.junit.Assert.assertTrue;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import org.junit.Assert;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 
+import com.norconex.commons.lang.Sleeper;
+import com.norconex.jef4.job.AbstractJob;
 import com.norconex.jef4.job.IJob;
+import com.norconex.jef4.job.IWeightedJob;
+import com.norconex.jef4.job.JobException;
 import com.norconex.jef4.jobs.SleepyJob;
 import com.norconex.jef4.status.IJobStatus;
+import com.norconex.jef4.status.JobState;
+import com.norconex.jef4.status.JobStatusUpdater;
 import com.norconex.jef4.suite.JobSuite;
+import com.norconex.jef4.suite.JobSuiteConfig;
 
 public class AsyncJobGroupTest {
 
+    @Rule
+    public TemporaryFolder tempFolder = new TemporaryFolder();
+
     @Test
     public void testExecuteGroup() {
         IJob job1 = new SleepyJob(30, 3);
@@ -42,10 +62,192 @@ public class AsyncJobGroupTest {
         assertStatus(suite.getJobStatus(rootJob));
     }
 
+    @Test
+    public void testExecuteNestedGroupsOnPool() {
+        final AtomicInteger running = new AtomicInteger();
+        final AtomicInteger maxRunning = new AtomicInteger();
+        IJob[] groups = new IJob[3];
+        for (int i = 0; i < groups.length; i++) {
+            IJob[] jobs = new IJob[4];
+            for (int j = 0; j < jobs.length; j++) {
+                jobs[j] = new CountingJob(
+                        "job" + i + "-" + j, running, maxRunning);
+            }
+            groups[i] = new AsyncJobGroup("group" + i, 4, jobs);
+        }
+        IJob rootJob = new AsyncJobGroup("root", 3, groups);
+
+        ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            JobSuiteConfig config = new JobSuiteConfig();
+            config.setWorkdir(tempFolder.getRoot().getAbsolutePath());
+            config.setJobGroupPool(pool);
+            JobSuite suite = new JobSuite(rootJob, config);
+            Assert.assertTrue("Suite failed.", suite.execute());
+            assertStatus(suite.getJobStatus(rootJob));
+        } finally {
+            pool.shutdown();
+        }
+        Assert.assertTrue("Too many jobs running at once: "
+                + maxRunning.get(), maxRunning.get() <= 2);
+    }
+
+    @Test
+    public void testExecuteWithThreadFactory() {
+        final AtomicInteger running = new AtomicInteger();
+        final AtomicInteger maxRunning = new AtomicInteger();
+        final AtomicInteger created = new AtomicInteger();
+        IJob[] jobs = new IJob[6];
+        for (int i = 0; i < jobs.length; i++) {
+            jobs[i] = new CountingJob("job" + i, running, maxRunning);
+        }
+        IJob rootJob = new AsyncJobGroup("root", 2, jobs);
+
+        JobSuiteConfig config = new JobSuiteConfig();
+        config.setWorkdir(tempFolder.getRoot().getAbsolutePath());
+        config.setThreadFactory(new ThreadFactory() {
+            @Override
+            public Thread newThread(Runnable r) {
+                created.incrementAndGet();
+                return new Thread(r);
+            }
+        });
+        JobSuite suite = new JobSuite(rootJob, config);
+        Assert.assertTrue("Suite failed.", suite.execute());
+        assertStatus(suite.getJobStatus(rootJob));
+        Assert.assertEquals(jobs.length, created.get());
+        Assert.assertTrue("Too many jobs running at once: "
+                + maxRunning.get(), maxRunning.get() <= 2);
+    }
+
+    @Test
+    public void testFailFast() {
+        final AtomicBoolean stopped = new AtomicBoolean();
+        IJob failing = new AbstractJob("failing") {
+            @Override
+            public void execute(
+                    JobStatusUpdater statusUpdater, JobSuite suite) {
+                Sleeper.sleepMillis(50);
+                throw new JobException("Failing on purpose.");
+            }
+            @Override
+            public void stop(IJobStatus status, JobSuite suite) {
+                // not stoppable
+            }
+        };
+        IJob stoppable = new AbstractJob("stoppable") {
+            @Override
+            public void execute(
+                    JobStatusUpdater statusUpdater, JobSuite suite) {
+                for (int i = 0; i < 500 && !stopped.get(); i++) {
+                    Sleeper.sleepMillis(10);
+                }
+            }
+            @Override
+            public void stop(IJobStatus status, JobSuite suite) {
+                stopped.set(true);
+            }
+        };
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        IJob queued = new CountingJob("queued", running, maxRunning);
+        AsyncJobGroup rootJob = 
+                new AsyncJobGroup("root", 2, failing, stoppable, queued);
+        rootJob.setMaxFailures(1);
+
+        JobSuiteConfig config = new JobSuiteConfig();
+        config.setWorkdir(tempFolder.getRoot().getAbsolutePath());
+        JobSuite suite = new JobSuite(rootJob, config);
+        Assert.assertFalse(suite.execute());
+        Assert.assertTrue("Running job not stopped.", stopped.get());
+        Assert.assertEquals(0, maxRunning.get());
+        Assert.assertEquals(
+                JobState.UNKNOWN, suite.getJobStatus(queued).getState());
+    }
+
+    @Test
+    public void testPriorityAndWeightOrder() {
+        final List<String> started = 
+                Collections.synchronizedList(new ArrayList<String>());
+        IJob rootJob = new AsyncJobGroup("root", 1,
+                new OrderedJob("plain", started),
+                new WeightedJob("light", started, 0, 0.5d),
+                new WeightedJob("heavy", started, 0, 5d),
+                new WeightedJob("urgent", started, 1, 0.1d));
+
+        JobSuiteConfig config = new JobSuiteConfig();
+        config.setWorkdir(tempFolder.getRoot().getAbsolutePath());
+        Assert.assertTrue(new JobSuite(rootJob, config).execute());
+        Assert.assertEquals("[urgent, heavy, plain, light]", 
+                started.toString());
+    }
+
     private void assertStatus(IJobStatus status) {
         System.out.println("Status of \"" + status.getJobId() + "\": "
                 + status.getState() + " (" + status.getProgress() + ")");
         assertTrue(status.getProgress() == 1d);
 //        assertTrue(status.getState() == JobState.COMPLETED);
     }
+
+    private static class CountingJob extends AbstractJob {
+        private final AtomicInteger running;
+        private final AtomicInteger maxRunning;
+        public CountingJob(String id,
+                AtomicInteger running, AtomicInteger maxRunning) {
+            super(id);
+            this.running = running;
+            this.maxRunning = maxRunning;
+        }
+        @Override
+        public void execute(JobStatusUpdater statusUpdater, JobSuite suite) {
+            int count = running.incrementAndGet();
+            int max = maxRunning.get();
+            while (count > max && !maxRunning.compareAndSet(max, count)) {
+                max = maxRunning.get();
+            }
+            Sleeper.sleepMillis(20);
+            running.decrementAndGet();
+            statusUpdater.setProgress(1d);
+        }
+        @Override
+        public void stop(IJobStatus status, JobSuite suite) {
+            // not stoppable
+        }
+    }
+
+    private static class OrderedJob extends AbstractJob {
+        private final List<String> started;
+        public OrderedJob(String id, List<String> started) {
+            super(id);
+            this.started = started;
+        }
+        @Override
+        public void execute(JobStatusUpdater statusUpdater, JobSuite suite) {
+            started.add(getId());
+            statusUpdater.setProgress(1d);
+        }
+        @Override
+        public void stop(IJobStatus status, JobSuite suite) {
+            // not stoppable
+        }
+    }
+    private static class WeightedJob extends OrderedJob 
+            implements IWeightedJob {
+        private final int priority;
+        private final double weight;
+        public WeightedJob(String id, List<String> started,
+                int priority, double weight) {
+            super(id, started);
+            this.priority = priority;
+            this.weight = weight;
+        }
+        @Override
+        public int getPriority() {
+            return priority;
+        }
+        @Override
+        public double getWeight() {
+            return weight;
+        }
+    }
 }
@@ -0,0 +1,171 @@
+/* Copyright 2026 Norconex Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.norconex.jef4.job.group;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.norconex.commons.lang.Sleeper;
+import com.norconex.jef4.job.AbstractJob;
+import com.norconex.jef4.job.IJob;
+import com.norconex.jef4.job.JobException;
+import com.norconex.jef4.status.IJobStatus;
+import com.norconex.jef4.status.JobState;
+import com.norconex.jef4.status.JobStatusUpdater;
+import com.norconex.jef4.suite.JobSuite;
+import com.norconex.jef4.suite.JobSuiteConfig;
+
+public class DagJobGroupTest {
+
+    @Rule
+    public TemporaryFolder tempFolder = new TemporaryFolder();
+
+    private final List<String> events =
+            Collections.synchronizedList(new ArrayList<String>());
+
+    @Test
+    public void testDependencies() {
+        DagJobGroup group = new DagJobGroup("dag",
+                new EventJob("a"), new EventJob("b"), 
+                new EventJob("c"), new EventJob("d"));
+        group.addDependency("b", "a");
+        group.addDependency("c", "a");
+        group.addDependency("d", "b", "c");
+
+        JobSuite suite = newSuite(group);
+        Assert.assertTrue("Suite failed.", suite.execute());
+        Assert.assertEquals(1d, suite.getStatus().getProgress(), 0);
+        assertBefore("end a", "start b");
+        assertBefore("end a", "start c");
+        assertBefore("end b", "start d");
+        assertBefore("end c", "start d");
+    }
+
+    @Test
+    public void testLongestPathFirst() {
+        // "x" is declared first, but "y" has a job waiting on it
+        DagJobGroup group = new DagJobGroup("dag", 1,
+                new EventJob("x"), new EventJob("y"), new EventJob("z"));
+        group.addDependency("z", "y");
+
+        Assert.assertTrue(newSuite(group).execute());
+        assertBefore("end y", "start x");
+    }
+
+    @Test
+    public void testFailedDependency() {
+        DagJobGroup group = new DagJobGroup("dag",
+                new EventJob("fail"), new EventJob("dependent"), 
+                new EventJob("independent"));
+        group.addDependency("dependent", "fail");
+
+        JobSuite suite = newSuite(group);
+        Assert.assertFalse(suite.execute());
+        Assert.assertTrue(events.contains("end independent"));
+        Assert.assertFalse(events.contains("start dependent"));
+        Assert.assertEquals(JobState.UNKNOWN, 
+                suite.getJobStatus("dependent").getState());
+    }
+
+    @Test
+    public void testStop() throws Exception {
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch stopped = new CountDownLatch(1);
+        IJob waiting = new AbstractJob("waiting") {
+            @Override
+            public void execute(
+                    JobStatusUpdater statusUpdater, JobSuite suite) {
+                started.countDown();
+                try {
+                    stopped.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            @Override
+            public void stop(IJobStatus status, JobSuite suite) {
+                stopped.countDown();
+            }
+        };
+        DagJobGroup group = new DagJobGroup("dag", 
+                waiting, new EventJob("dependent"));
+        group.addDependency("dependent", "waiting");
+
+        final JobSuite suite = newSuite(group);
+        Thread thread = new Thread() {
+            @Override
+            public void run() {
+                suite.execute();
+            }
+        };
+        thread.start();
+        Assert.assertTrue(started.await(10, TimeUnit.SECONDS));
+        suite.stop();
+        thread.join(10000);
+        Assert.assertFalse("Suite did not return.", thread.isAlive());
+        Assert.assertEquals(JobState.STOPPED, 
+                suite.getJobStatus("waiting").getState());
+        Assert.assertFalse(events.contains("start dependent"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testCycle() {
+        DagJobGroup group = new DagJobGroup("dag",
+                new EventJob("a"), new EventJob("b"), new EventJob("c"));
+        group.addDependency("b", "a");
+        group.addDependency("c", "b");
+        group.addDependency("a", "c");
+    }
+
+    private JobSuite newSuite(DagJobGroup group) {
+        JobSuiteConfig config = new JobSuiteConfig();
+        config.setWorkdir(tempFolder.getRoot().getAbsolutePath());
+        return new JobSuite(group, config);
+    }
+
+    private void assertBefore(String event1, String event2) {
+        Assert.assertTrue(event1 + " should come before " + event2 
+                + ": " + events, 
+                events.indexOf(event1) < events.indexOf(event2));
+    }
+
+    private class EventJob extends AbstractJob {
+        public EventJob(String id) {
+            super(id);
+        }
+        @Override
+        public void execute(JobStatusUpdater statusUpdater, JobSuite suite) {
+            events.add("start " + getId());
+            Sleeper.sleepMillis(20);
+            if ("fail".equals(getId())) {
+                throw new JobException("Failing on purpose.");
+            }
+            events.add("end " + getId());
+            statusUpdater.setProgress(1d);
+        }
+        @Override
+        public void stop(IJobStatus status, JobSuite suite) {
+            // not stoppable
+        }
+    }
+}
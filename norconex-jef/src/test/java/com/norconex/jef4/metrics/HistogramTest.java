@@ -0,0 +1,55 @@
+/* Copyright 2026 Norconex Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.norconex.jef4.metrics;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class HistogramTest {
+
+    @Test
+    public void testPercentiles() {
+        Histogram histogram = new Histogram();
+        Assert.assertEquals(0, histogram.getValueAtPercentile(50));
+        for (int i = 1; i <= 100000; i++) {
+            histogram.record(i);
+        }
+        histogram.record(-5);
+        Assert.assertEquals(100001, histogram.getCount());
+        Assert.assertEquals(0, histogram.getMin());
+        Assert.assertEquals(100000, histogram.getMax());
+        Assert.assertEquals(50000d, histogram.getMean(), 1d);
+        assertPrecision(50000, histogram.getValueAtPercentile(50));
+        assertPrecision(99000, histogram.getValueAtPercentile(99));
+        Assert.assertEquals(100000, histogram.getValueAtPercentile(100));
+        // Exact under 64
+        Assert.assertEquals(0, histogram.getValueAtPercentile(0));
+    }
+
+    @Test
+    public void testLargeValues() {
+        Histogram histogram = new Histogram();
+        histogram.record(Long.MAX_VALUE);
+        histogram.record(Long.MAX_VALUE / 3);
+        Assert.assertEquals(
+                Long.MAX_VALUE, histogram.getValueAtPercentile(100));
+        assertPrecision(Long.MAX_VALUE / 3, histogram.getValueAtPercentile(50));
+    }
+
+    private void assertPrecision(long expected, long actual) {
+        Assert.assertTrue("Expected about " + expected + " but was " + actual,
+                Math.abs(actual - expected) <= expected * 0.04);
+    }
+}
@@ -0,0 +1,76 @@
+/* Copyright 2026 Norconex Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.norconex.jef4.metrics;
+
+import java.lang.management.ManagementFactory;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class JmxMetricsTest {
+
+    @Test
+    public void testMBeans() throws Exception {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        JmxMetrics metrics = new JmxMetrics("com.norconex.jef4.test");
+        try {
+            metrics.recordDuration("test.duration", 1000);
+            metrics.recordDuration("test.duration", 3000);
+            metrics.incrementCounter("test.counter", 5);
+            metrics.setGauge("test.gauge", 7);
+            Assert.assertEquals(2L, server.getAttribute(new ObjectName(
+                    "com.norconex.jef4.test:type=Histogram,"
+                    + "name=\"test.duration\""), "Count"));
+            Assert.assertEquals(2000d, server.getAttribute(new ObjectName(
+                    "com.norconex.jef4.test:type=Histogram,"
+                    + "name=\"test.duration\""), "Mean"));
+            Assert.assertEquals(5L, server.getAttribute(new ObjectName(
+                    "com.norconex.jef4.test:type=Counter,"
+                    + "name=\"test.counter\""), "Value"));
+            Assert.assertEquals(7L, server.getAttribute(new ObjectName(
+                    "com.norconex.jef4.test:type=Gauge,"
+                    + "name=\"test.gauge\""), "Value"));
+        } finally {
+            metrics.unregister();
+        }
+        Assert.assertTrue(server.queryNames(new ObjectName(
+                "com.norconex.jef4.test:*"), null).isEmpty());
+    }
+
+    @Test
+    public void testRegisterAgain() throws Exception {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        ObjectName name = new ObjectName(
+                "com.norconex.jef4.test:type=Counter,name=\"test.counter\"");
+        JmxMetrics metrics = new JmxMetrics("com.norconex.jef4.test");
+        metrics.incrementCounter("test.counter", 1);
+        metrics.unregister();
+        Assert.assertFalse(server.isRegistered(name));
+
+        // Another instance can now register the same metric
+        JmxMetrics other = new JmxMetrics("com.norconex.jef4.test");
+        other.incrementCounter("test.counter", 2);
+        Assert.assertEquals(2L, server.getAttribute(name, "Value"));
+        other.unregister();
+
+        metrics.register();
+        Assert.assertEquals(1L, server.getAttribute(name, "Value"));
+        metrics.unregister();
+        Assert.assertFalse(server.isRegistered(name));
+    }
+}
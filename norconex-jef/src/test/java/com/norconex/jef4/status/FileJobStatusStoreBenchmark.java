@@ -0,0 +1,72 @@
+/* Copyright 2026 Norconex Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.norconex.jef4.status;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Date;
+
+import org.apache.commons.io.FileUtils;
+import org.apache.log4j.Level;
+import org.apache.log4j.Logger;
+
+import com.norconex.jef4.status.FileJobStatusStore.FsyncPolicy;
+
+/**
+ * Measures the average latency of {@link FileJobStatusStore#write} for
+ * each fsync policy.  A job state change is simulated every 100 writes.
+ * Not a unit test: run it with its main method.
+ * @author agent
+ */
+public final class FileJobStatusStoreBenchmark {
+
+    private static final int WRITES = 2000;
+    private static final int STATE_CHANGE_EVERY = 100;
+
+    private FileJobStatusStoreBenchmark() {
+        super();
+    }
+
+    public static void main(String[] args) throws IOException {
+        Logger.getLogger("com.norconex.jef4").setLevel(Level.WARN);
+        File dir = new File(
+                FileUtils.getTempDirectory(), "jef-status-store-benchmark");
+        // warm-up
+        run(dir, FsyncPolicy.NEVER);
+        for (FsyncPolicy policy : FsyncPolicy.values()) {
+            System.out.printf("%-16s %,8.1f microseconds/write%n",
+                    policy, run(dir, policy));
+        }
+    }
+
+    private static double run(File dir, FsyncPolicy policy)
+            throws IOException {
+        FileUtils.deleteDirectory(dir);
+        FileJobStatusStore store =
+                new FileJobStatusStore(dir.getAbsolutePath());
+        store.setFsyncPolicy(policy);
+        MutableJobStatus status = new MutableJobStatus("benchmark-job");
+        status.getDuration().setStartTime(new Date());
+        long start = System.nanoTime();
+        for (int i = 0; i < WRITES; i++) {
+            status.setProgress((double) i / WRITES);
+            if (i % STATE_CHANGE_EVERY == 0) {
+                status.incrementResumeAttempts();
+            }
+            store.write("benchmark-suite", status);
+        }
+        return (System.nanoTime() - start) / 1000d / WRITES;
+    }
+}
@@ -0,0 +1,104 @@
+/* Copyright 2026 Norconex Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.norconex.jef4.status;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.norconex.jef4.status.FileJobStatusStore.FsyncPolicy;
+
+public class FileJobStatusStoreTest {
+
+    @Rule
+    public TemporaryFolder tempFolder = new TemporaryFolder();
+
+    @Test
+    public void testWriteRead() throws IOException {
+        FileJobStatusStore store = new FileJobStatusStore(
+                tempFolder.getRoot().getAbsolutePath());
+        store.setFsyncPolicy(FsyncPolicy.ON_STATE_CHANGE);
+        MutableJobStatus status = new MutableJobStatus("job");
+        status.getDuration().setStartTime(new Date());
+        status.setProgress(0.5d);
+        status.setNote("half way");
+        store.write("suite", status);
+        status.setProgress(0.75d);
+        store.write("suite", status);
+
+        IJobStatus read = store.read("suite", "job");
+        Assert.assertEquals(0.75d, read.getProgress(), 0d);
+        Assert.assertEquals("half way", read.getNote());
+
+        // Only the status file should be left behind.
+        File statusDir = new File(tempFolder.getRoot(), "latest/status");
+        Assert.assertEquals(1, statusDir.list().length);
+    }
+
+    @Test
+    public void testPermissions() throws IOException {
+        Assume.assumeTrue(FileSystems.getDefault()
+                .supportedFileAttributeViews().contains("posix"));
+        FileJobStatusStore store = new FileJobStatusStore(
+                tempFolder.getRoot().getAbsolutePath());
+        store.write("suite", new MutableJobStatus("job"));
+        
+        // Status files get the same permissions as any new file
+        File statusDir = new File(tempFolder.getRoot(), "latest/status");
+        File statusFile = new File(statusDir, "suite__job.job");
+        File otherFile = new File(statusDir, "other");
+        Assert.assertTrue(otherFile.createNewFile());
+        Assert.assertEquals(
+                Files.getPosixFilePermissions(otherFile.toPath()),
+                Files.getPosixFilePermissions(statusFile.toPath()));
+    }
+
+    @Test
+    public void testReadAll() throws IOException {
+        FileJobStatusStore store = new FileJobStatusStore(
+                tempFolder.getRoot().getAbsolutePath());
+        List<String> jobIds = new ArrayList<>();
+        // Enough jobs to read them with multiple threads.
+        for (int i = 0; i < 100; i++) {
+            String jobId = "job" + i;
+            jobIds.add(jobId);
+            // Every other job has no status written
+            if (i % 2 == 0) {
+                MutableJobStatus status = new MutableJobStatus(jobId);
+                status.setProgress(i / 100d);
+                store.write("suite", status);
+            }
+        }
+        Map<String, IJobStatus> statuses = store.readAll("suite", jobIds);
+        Assert.assertEquals(jobIds, new ArrayList<>(statuses.keySet()));
+        for (int i = 0; i < 100; i++) {
+            IJobStatus status = statuses.get("job" + i);
+            Assert.assertEquals("job" + i, status.getJobId());
+            Assert.assertEquals(
+                    i % 2 == 0 ? i / 100d : 0d, status.getProgress(), 0d);
+        }
+    }
+}
@@ -0,0 +1,74 @@
+/* Copyright 2026 Norconex Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.norconex.jef4.status;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class JobHeartbeatFileTest {
+
+    @Rule
+    public TemporaryFolder tempFolder = new TemporaryFolder();
+
+    @Test
+    public void testWriteApply() throws IOException {
+        File file = new File(tempFolder.getRoot(), "suite.heartbeat");
+        JobHeartbeatFile heartbeatFile = new JobHeartbeatFile(file);
+        heartbeatFile.write(Arrays.asList("running"));
+
+        MutableJobStatus running = new MutableJobStatus("running");
+        MutableJobStatus other = new MutableJobStatus("other");
+        heartbeatFile.apply(Arrays.<IJobStatus>asList(running, other));
+        Assert.assertEquals(
+                file.lastModified(), running.getLastActivityMillis());
+        Assert.assertEquals(-1, other.getLastActivityMillis());
+        // Only the heartbeat file should be left behind.
+        Assert.assertEquals(1, tempFolder.getRoot().list().length);
+    }
+
+    @Test
+    public void testPermissions() throws IOException {
+        Assume.assumeTrue(FileSystems.getDefault()
+                .supportedFileAttributeViews().contains("posix"));
+        File file = new File(tempFolder.getRoot(), "suite.heartbeat");
+        new JobHeartbeatFile(file).write(Arrays.asList("running"));
+
+        // Heartbeat files get the same permissions as any new file
+        File otherFile = tempFolder.newFile("other");
+        Assert.assertEquals(
+                Files.getPosixFilePermissions(otherFile.toPath()),
+                Files.getPosixFilePermissions(file.toPath()));
+    }
+
+    @Test
+    public void testUnreadable() throws IOException {
+        // A directory exists but cannot be read as a file
+        File file = tempFolder.newFolder("suite.heartbeat");
+        MutableJobStatus status = new MutableJobStatus("running");
+        new JobHeartbeatFile(file).apply(
+                Collections.<IJobStatus>singletonList(status));
+        Assert.assertEquals(-1, status.getLastActivityMillis());
+    }
+}
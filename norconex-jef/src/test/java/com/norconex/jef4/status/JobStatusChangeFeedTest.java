@@ -0,0 +1,69 @@
+/* Copyright 2026 Norconex Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.norconex.jef4.status;
+
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class JobStatusChangeFeedTest {
+
+    @Test
+    public void testChangesSince() {
+        JobStatusChangeFeed feed = new JobStatusChangeFeed(3);
+        MutableJobStatus status = new MutableJobStatus("job");
+        for (int i = 1; i <= 5; i++) {
+            status.setProgress(i / 10d);
+            Assert.assertNotNull(feed.publish(status));
+        }
+        // Unchanged
+        Assert.assertNull(feed.publish(status));
+
+        Assert.assertEquals(5, feed.getLastVersion());
+        Assert.assertEquals(3, feed.getOldestVersion());
+        List<JobStatusChange> changes = feed.changesSince(0, 0);
+        Assert.assertEquals(3, changes.size());
+        Assert.assertEquals(3, changes.get(0).getVersion());
+        Assert.assertEquals(0.5d, changes.get(2).getProgress(), 0d);
+        Assert.assertEquals(1, feed.changesSince(4, 0).size());
+        Assert.assertTrue(feed.changesSince(5, 0).isEmpty());
+    }
+
+    @Test
+    public void testLongPoll() throws InterruptedException {
+        final JobStatusChangeFeed feed = new JobStatusChangeFeed();
+        Thread publisher = new Thread() {
+            @Override
+            public void run() {
+                try {
+                    Thread.sleep(100);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                MutableJobStatus status = new MutableJobStatus("job");
+                status.setNote("changed");
+                feed.publish(status);
+            }
+        };
+        publisher.start();
+        long start = System.currentTimeMillis();
+        List<JobStatusChange> changes = feed.changesSince(0, 10000);
+        Assert.assertTrue(System.currentTimeMillis() - start < 5000);
+        Assert.assertEquals(1, changes.size());
+        Assert.assertEquals("changed", changes.get(0).getNote());
+        publisher.join();
+    }
+}
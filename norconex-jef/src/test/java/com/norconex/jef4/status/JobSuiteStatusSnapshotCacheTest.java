@@ -0,0 +1,110 @@
+/* Copyright 2026 Norconex Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.norconex.jef4.status;
+
+import java.io.File;
+import java.io.IOException;
+
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.norconex.jef4.JEFUtil;
+import com.norconex.jef4.job.AbstractJob;
+import com.norconex.jef4.job.group.SyncJobGroup;
+import com.norconex.jef4.suite.JobSuite;
+import com.norconex.jef4.suite.JobSuiteConfig;
+
+public class JobSuiteStatusSnapshotCacheTest {
+
+    @Rule
+    public TemporaryFolder tempFolder = new TemporaryFolder();
+
+    @Test
+    public void testRefreshModifiedOnly() throws IOException {
+        File workdir = tempFolder.getRoot();
+        JobSuiteConfig config = new JobSuiteConfig();
+        config.setWorkdir(workdir.getAbsolutePath());
+        JobSuite suite = new JobSuite(new SyncJobGroup("group",
+                new NoopJob("job1"), new NoopJob("job2")), config);
+        Assert.assertTrue(suite.execute());
+
+        // Make statuses look like they were written a while ago
+        File statusDir = new File(workdir, "latest/status");
+        for (File file : statusDir.listFiles()) {
+            file.setLastModified(System.currentTimeMillis() - 10000);
+        }
+
+        File index = JEFUtil.getSuiteIndexFile(
+                workdir.getAbsolutePath(), "group");
+        JobSuiteStatusSnapshotCache cache = new JobSuiteStatusSnapshotCache();
+        JobSuiteStatusSnapshot snapshot = cache.getSnapshot(index, 0);
+        Assert.assertEquals(1d, snapshot.getRoot().getProgress(), 0d);
+        Assert.assertSame(snapshot, cache.getSnapshot(index, 60000));
+        Assert.assertSame(snapshot, cache.getSnapshot(index, 0));
+
+        FileJobStatusStore store = 
+                new FileJobStatusStore(workdir.getAbsolutePath());
+        MutableJobStatus job2 = new MutableJobStatus("job2");
+        job2.setNote("modified");
+        store.write("group", job2);
+
+        JobSuiteStatusSnapshot refreshed = cache.getSnapshot(index, 0);
+        Assert.assertNotSame(snapshot, refreshed);
+        Assert.assertEquals("modified",
+                refreshed.getJobStatus("job2").getNote());
+        Assert.assertSame(snapshot.getJobStatus("job1"), 
+                refreshed.getJobStatus("job1"));
+        Assert.assertEquals("job2", 
+                refreshed.getChildren("group").get(1).getJobId());
+    }
+
+    @Test
+    public void testMaxSnapshots() throws IOException {
+        File workdir = tempFolder.getRoot();
+        JobSuiteConfig config = new JobSuiteConfig();
+        config.setWorkdir(workdir.getAbsolutePath());
+        Assert.assertTrue(
+                new JobSuite(new NoopJob("suite1"), config).execute());
+        Assert.assertTrue(
+                new JobSuite(new NoopJob("suite2"), config).execute());
+        File index1 = JEFUtil.getSuiteIndexFile(
+                workdir.getAbsolutePath(), "suite1");
+        File index2 = JEFUtil.getSuiteIndexFile(
+                workdir.getAbsolutePath(), "suite2");
+
+        JobSuiteStatusSnapshotCache cache = new JobSuiteStatusSnapshotCache(1);
+        JobSuiteStatusSnapshot snapshot1 = cache.getSnapshot(index1, 60000);
+        Assert.assertSame(snapshot1, cache.getSnapshot(index1, 60000));
+        cache.getSnapshot(index2, 60000);
+        // suite1 was evicted and gets loaded again
+        Assert.assertNotSame(snapshot1, cache.getSnapshot(index1, 60000));
+    }
+
+    private static class NoopJob extends AbstractJob {
+        public NoopJob(String id) {
+            super(id);
+        }
+        @Override
+        public void execute(JobStatusUpdater statusUpdater, JobSuite suite) {
+            statusUpdater.setProgress(1d);
+        }
+        @Override
+        public void stop(IJobStatus status, JobSuite suite) {
+            // not stoppable
+        }
+    }
+}
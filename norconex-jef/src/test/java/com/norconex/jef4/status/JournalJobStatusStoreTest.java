@@ -0,0 +1,137 @@
+/* Copyright 2026 Norconex Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.norconex.jef4.status;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.Map;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.norconex.jef4.status.FileJobStatusStore.FsyncPolicy;
+
+public class JournalJobStatusStoreTest {
+
+    @Rule
+    public TemporaryFolder tempFolder = new TemporaryFolder();
+
+    @Test
+    public void testWriteReadCompact() throws IOException {
+        String dir = tempFolder.getRoot().getAbsolutePath();
+        JournalJobStatusStore writer = new JournalJobStatusStore(dir);
+        // Enough records to fill the journal and trigger compaction.
+        for (int j = 0; j < 10; j++) {
+            MutableJobStatus status = new MutableJobStatus("job" + j);
+            status.getDuration().setStartTime(new Date());
+            status.getProperties().setString("key", "value" + j);
+            for (int i = 1; i <= 1000; i++) {
+                status.setProgress(i / 1000d);
+                status.setNote("step " + i);
+                writer.write("suite", status);
+            }
+        }
+        writer.remove("suite", "job9");
+
+        // A distinct store instance reads the journal like another process
+        JournalJobStatusStore reader = new JournalJobStatusStore(dir);
+        Map<String, IJobStatus> statuses = reader.readAll(
+                "suite", Arrays.asList("job0", "job5", "job9"));
+        IJobStatus status = statuses.get("job5");
+        Assert.assertEquals(1d, status.getProgress(), 0d);
+        Assert.assertEquals("step 1000", status.getNote());
+        Assert.assertEquals("value5", 
+                status.getProperties().getString("key"));
+        Assert.assertNotNull(status.getDuration().getStartTime());
+        Assert.assertNotNull(status.getLastActivity());
+        Assert.assertNull(statuses.get("job9").getLastActivity());
+
+        // Reader picks up new records, including after a compaction
+        MutableJobStatus job0 = new MutableJobStatus("job0");
+        job0.setNote("rewritten");
+        writer.write("suite", job0);
+        Assert.assertEquals("rewritten", reader.read("suite", "job0").getNote());
+        writer.compact("suite");
+        Assert.assertEquals("step 1000", reader.read("suite", "job1").getNote());
+        Assert.assertEquals("rewritten", reader.read("suite", "job0").getNote());
+    }
+
+    @Test
+    public void testFsyncLastModified() throws IOException {
+        String dir = tempFolder.getRoot().getAbsolutePath();
+        JournalJobStatusStore writer = new JournalJobStatusStore(dir);
+        writer.setFsyncPolicy(FsyncPolicy.ALWAYS);
+        JournalJobStatusStore reader = new JournalJobStatusStore(dir);
+        Assert.assertEquals(-1, reader.getLastModified("suite", "job"));
+
+        long before = System.currentTimeMillis();
+        MutableJobStatus status = new MutableJobStatus("job");
+        status.setProgress(0.5d);
+        writer.write("suite", status);
+        writer.compact("suite");
+        long lastModified = reader.getLastModified("suite", "job");
+        Assert.assertTrue(lastModified >= before);
+        Assert.assertEquals(0.5d, 
+                reader.read("suite", "job").getProgress(), 0d);
+
+        writer.remove("suite", "job");
+        Assert.assertEquals(-1, reader.getLastModified("suite", "job"));
+    }
+
+    @Test
+    public void testRelease() throws IOException {
+        File proc = new File("/proc/self/maps");
+        Assume.assumeTrue(proc.exists());
+        JournalJobStatusStore store = new JournalJobStatusStore(
+                tempFolder.getRoot().getAbsolutePath());
+        String journal = store.getJournalFile("suite").getCanonicalPath();
+        MutableJobStatus status = new MutableJobStatus("job");
+        status.setProgress(0.5d);
+        store.write("suite", status);
+        Assert.assertTrue(isOpen(journal));
+
+        // Released journals are unmapped and closed, and can be used again
+        store.release("suite");
+        Assert.assertFalse(isOpen(journal));
+        Assert.assertEquals(0.5d, store.read("suite", "job").getProgress(), 0d);
+        status.setProgress(1d);
+        store.write("suite", status);
+        Assert.assertTrue(isOpen(journal));
+        store.close();
+        Assert.assertFalse(isOpen(journal));
+        Assert.assertEquals(1d, store.read("suite", "job").getProgress(), 0d);
+    }
+
+    // Whether the file is mapped or opened by this process (Linux only).
+    private static boolean isOpen(String path) throws IOException {
+        if (FileUtils.readFileToString(new File("/proc/self/maps"),
+                StandardCharsets.UTF_8).contains(path)) {
+            return true;
+        }
+        for (File fd : new File("/proc/self/fd").listFiles()) {
+            if (path.equals(fd.getCanonicalPath())) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,101 @@
+/* Copyright 2026 Norconex Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.norconex.jef4.status;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+/**
+ * Measures the average latency and allocated bytes of
+ * {@link MutableJobStatus#getState()} and
+ * {@link MutableJobStatus#isRunning()} for running, completed and
+ * stopped jobs.  Allocations are only reported on JVMs supporting
+ * thread allocation measurement.
+ * Not a unit test: run it with its main method.
+ * @author agent
+ */
+public final class MutableJobStatusBenchmark {
+
+    private static final int READS = 10000000;
+
+    // Prevents the JIT from discarding reads
+    private static int sink;
+
+    private MutableJobStatusBenchmark() {
+        super();
+    }
+
+    public static void main(String[] args) {
+        MutableJobStatus running = new MutableJobStatus("running");
+        running.getDuration().setStartTimeMillis(System.currentTimeMillis());
+        running.setLastActivityMillis(Long.MAX_VALUE / 2);
+        running.setProgress(0.5);
+
+        MutableJobStatus completed = new MutableJobStatus("completed");
+        completed.getDuration().setStartTimeMillis(
+                System.currentTimeMillis());
+        completed.getDuration().setEndTimeMillis(System.currentTimeMillis());
+        completed.setProgress(1d);
+
+        MutableJobStatus stopped = new MutableJobStatus("stopped");
+        stopped.getDuration().setStartTimeMillis(System.currentTimeMillis());
+        stopped.getDuration().setEndTimeMillis(System.currentTimeMillis());
+        stopped.setStopRequested(true);
+
+        // warm-up
+        for (int i = 0; i < 3; i++) {
+            run(running, true);
+            run(running, false);
+        }
+        for (MutableJobStatus status : new MutableJobStatus[] {
+                running, completed, stopped }) {
+            report(status, "getState", true);
+            report(status, "isRunning", false);
+        }
+    }
+
+    private static void report(
+            MutableJobStatus status, String method, boolean state) {
+        long allocatedBefore = allocatedBytes();
+        double nanos = run(status, state);
+        long allocated = allocatedBytes() - allocatedBefore;
+        System.out.printf("%-10s %-10s %,8.2f ns/read %,8.3f bytes/read%n",
+                status.getJobId(), method, nanos, allocatedBefore < 0
+                        ? Double.NaN : (double) allocated / READS);
+    }
+
+    private static double run(MutableJobStatus status, boolean state) {
+        long start = System.nanoTime();
+        int count = 0;
+        for (int i = 0; i < READS; i++) {
+            if (state) {
+                count += status.getState().ordinal();
+            } else if (status.isRunning()) {
+                count++;
+            }
+        }
+        sink += count;
+        return (System.nanoTime() - start) / (double) READS;
+    }
+
+    private static long allocatedBytes() {
+        ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (bean instanceof com.sun.management.ThreadMXBean) {
+            return ((com.sun.management.ThreadMXBean) bean)
+                    .getThreadAllocatedBytes(Thread.currentThread().getId());
+        }
+        return -1;
+    }
+}
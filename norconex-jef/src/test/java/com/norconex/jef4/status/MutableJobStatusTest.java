@@ -0,0 +1,72 @@
+/* Copyright 2026 Norconex Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.norconex.jef4.status;
+
+import java.util.Date;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class MutableJobStatusTest {
+
+    @Test
+    public void testState() {
+        MutableJobStatus status = new MutableJobStatus("job");
+        Assert.assertEquals(JobState.UNKNOWN, status.getState());
+        status.getDuration().setStartTime(new Date());
+        status.setLastActivity(new Date());
+        Assert.assertEquals(JobState.RUNNING, status.getState());
+        status.setStopRequested(true);
+        Assert.assertEquals(JobState.STOPPING, status.getState());
+        status.getDuration().setEndTime(new Date());
+        Assert.assertEquals(JobState.STOPPED, status.getState());
+        status.setStopRequested(false);
+        Assert.assertEquals(
+                JobState.PREMATURE_TERMINATION, status.getState());
+        status.setProgress(1d);
+        Assert.assertEquals(JobState.COMPLETED, status.getState());
+        status.setLastActivity(new Date(0));
+        status.getDuration().setEndTime(null);
+        status.setProgress(0.5d);
+        Assert.assertEquals(JobState.ABORTED, status.getState());
+    }
+
+    @Test
+    public void testSnapshotConsistency() throws InterruptedException {
+        final int changes = 200000;
+        final MutableJobStatus status = new MutableJobStatus("job");
+        Thread writer = new Thread() {
+            @Override
+            public void run() {
+                // Progress always matches the number of changes made
+                for (int i = 1; i <= changes; i++) {
+                    status.setProgress((double) i / changes);
+                }
+            }
+        };
+        writer.start();
+        long lastVersion = 0;
+        while (lastVersion < changes) {
+            MutableJobStatus snapshot = status.snapshot();
+            long version = snapshot.getVersion();
+            Assert.assertEquals(version,
+                    Math.round(snapshot.getProgress() * changes));
+            Assert.assertTrue(version >= lastVersion);
+            lastVersion = version;
+        }
+        writer.join();
+        Assert.assertEquals(JobState.COMPLETED, status.snapshot().getState());
+    }
+}
@@ -0,0 +1,136 @@
+/* Copyright 2026 Norconex Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.norconex.jef4.suite;
+
+import java.io.File;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.norconex.commons.lang.Sleeper;
+import com.norconex.jef4.JEFUtil;
+import com.norconex.jef4.job.AbstractJob;
+import com.norconex.jef4.metrics.IMetrics;
+import com.norconex.jef4.metrics.MetricNames;
+import com.norconex.jef4.status.IJobStatus;
+import com.norconex.jef4.status.JobState;
+import com.norconex.jef4.status.JobStatusUpdater;
+import com.norconex.jef4.status.JobSuiteStatusSnapshot;
+
+public class JobHeartbeatGeneratorTest {
+
+    @Rule
+    public TemporaryFolder tempFolder = new TemporaryFolder();
+
+    @Test
+    public void testRunningFromOtherProcess() throws Exception {
+        String workdir = tempFolder.getRoot().getAbsolutePath();
+        JobSuiteConfig config = new JobSuiteConfig();
+        config.setWorkdir(workdir);
+        config.setHeartbeatInterval(100);
+        final BlockingJob job = new BlockingJob();
+        final JobSuite suite = new JobSuite(job, config);
+        Thread thread = new Thread() {
+            @Override
+            public void run() {
+                suite.execute();
+            }
+        };
+        thread.start();
+        Assert.assertTrue(job.started.await(10, TimeUnit.SECONDS));
+        File heartbeatFile = 
+                JEFUtil.getSuiteHeartbeatFile(workdir, suite.getId());
+        for (int i = 0; i < 50 && !heartbeatFile.exists(); i++) {
+            Sleeper.sleepMillis(100);
+        }
+        // Status files are no longer touched, the heartbeat file is used
+        for (File file : FileUtils.listFiles(
+                tempFolder.getRoot(), new String[] {"job"}, true)) {
+            file.setLastModified(System.currentTimeMillis() - 60000);
+        }
+        // Suite status as seen from another process
+        JobSuiteStatusSnapshot snapshot = JobSuiteStatusSnapshot.newSnapshot(
+                JEFUtil.getSuiteIndexFile(workdir, suite.getId()));
+        Assert.assertEquals(JobState.RUNNING, snapshot.getRoot().getState());
+
+        job.release.countDown();
+        thread.join();
+        Assert.assertFalse(heartbeatFile.exists());
+    }
+
+    @Test
+    public void testBeatFailure() throws Exception {
+        final AtomicInteger beats = new AtomicInteger();
+        JobSuiteConfig config = new JobSuiteConfig();
+        config.setWorkdir(tempFolder.getRoot().getAbsolutePath());
+        config.setMetrics(new IMetrics() {
+            @Override
+            public void recordDuration(String name, long nanos) {
+                if (MetricNames.HEARTBEAT_LAG.equals(name)) {
+                    beats.incrementAndGet();
+                    throw new IllegalStateException("Test failure.");
+                }
+            }
+            @Override
+            public void incrementCounter(String name, long delta) {
+                // not recorded
+            }
+            @Override
+            public void setGauge(String name, long value) {
+                // not recorded
+            }
+        });
+        JobSuite suite = new JobSuite(new BlockingJob(), config);
+        JobHeartbeatGenerator generator = new JobHeartbeatGenerator(suite, 10);
+        generator.start();
+        try {
+            for (int i = 0; i < 500 && beats.get() < 3; i++) {
+                Sleeper.sleepMillis(10);
+            }
+        } finally {
+            generator.terminate();
+        }
+        // Still beating after failures
+        Assert.assertTrue(beats.get() >= 3);
+    }
+
+    private static class BlockingJob extends AbstractJob {
+        private final CountDownLatch started = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+        public BlockingJob() {
+            super("blocking-job");
+        }
+        @Override
+        public void execute(JobStatusUpdater statusUpdater, JobSuite suite) {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            statusUpdater.setProgress(1d);
+        }
+        @Override
+        public void stop(IJobStatus status, JobSuite suite) {
+            release.countDown();
+        }
+    }
+}
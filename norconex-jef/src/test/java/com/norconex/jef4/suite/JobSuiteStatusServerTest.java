@@ -0,0 +1,215 @@
+/* Copyright 2026 Norconex Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.norconex.jef4.suite;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.HttpURLConnection;
+import java.net.InetSocketAddress;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.io.IOUtils;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.norconex.jef4.job.AbstractJob;
+import com.norconex.jef4.status.IJobStatus;
+import com.norconex.jef4.status.JobStatusUpdater;
+import com.norconex.jef4.status.MutableJobStatus;
+
+public class JobSuiteStatusServerTest {
+
+    @Rule
+    public TemporaryFolder tempFolder = new TemporaryFolder();
+
+    @Test
+    public void testStatusServer() throws Exception {
+        JobSuiteConfig config = new JobSuiteConfig();
+        config.setWorkdir(tempFolder.getRoot().getAbsolutePath());
+        config.setHeartbeatInterval(60000);
+        config.setStatusServerAddress(new InetSocketAddress("localhost", 0));
+        config.setStatusServerMaxEventStreams(1);
+        final HalfWayJob job = new HalfWayJob();
+        final JobSuite suite = new JobSuite(job, config);
+        Thread thread = new Thread() {
+            @Override
+            public void run() {
+                suite.execute();
+            }
+        };
+        thread.start();
+        Assert.assertTrue(job.halfWay.await(10, TimeUnit.SECONDS));
+        String url = "http://localhost:"
+                + suite.getStatusServerAddress().getPort();
+        try {
+            // Status
+            HttpURLConnection conn = open(url + "/status");
+            Assert.assertEquals(200, conn.getResponseCode());
+            String json = read(conn.getInputStream());
+            Assert.assertTrue(json, json.startsWith("{\"suite\":\"half-way\","
+                    + "\"root\":{\"id\":\"half-way\",\"state\":\"RUNNING\","
+                    + "\"progress\":0.5,"));
+            String etag = conn.getHeaderField("ETag");
+            Assert.assertTrue(etag, etag.matches("\"[0-9a-f]{40}\""));
+            conn = open(url + "/status");
+            conn.setRequestProperty("If-None-Match", etag);
+            Assert.assertEquals(304, conn.getResponseCode());
+            // Heartbeats do not change the ETag
+            MutableJobStatus status = (MutableJobStatus)
+                    suite.getJobSuiteStatusSnapshot().getRoot();
+            status.setLastActivityMillis(
+                    status.getLastActivityMillis() + 1000);
+            conn = open(url + "/status");
+            conn.setRequestProperty("If-None-Match", etag);
+            Assert.assertEquals(304, conn.getResponseCode());
+
+            // Metrics
+            conn = open(url + "/metrics");
+            String metrics = read(conn.getInputStream());
+            Assert.assertTrue(metrics, metrics.contains(
+                    "jef_job_progress{suite=\"half-way\",job=\"half-way\"} "
+                            + "0.5\n"));
+            Assert.assertTrue(metrics, metrics.contains("jef_job_state{"
+                    + "suite=\"half-way\",job=\"half-way\",state=\"RUNNING\"} "
+                    + "1\n"));
+
+            // Events, resuming after the first change
+            conn = open(url + "/events");
+            conn.setRequestProperty("Last-Event-ID", "1");
+            try (BufferedReader r = new BufferedReader(new InputStreamReader(
+                    conn.getInputStream(), StandardCharsets.UTF_8))) {
+                Assert.assertEquals("id: 2", r.readLine());
+                Assert.assertEquals("event: status", r.readLine());
+                Assert.assertEquals("data: {\"id\":\"half-way\","
+                        + "\"state\":\"RUNNING\",\"progress\":0.5,"
+                        + "\"note\":null}", r.readLine());
+                // Only one event stream allowed at once
+                Assert.assertEquals(503,
+                        open(url + "/events").getResponseCode());
+            }
+
+            Assert.assertEquals(404, open(url + "/nothing").getResponseCode());
+        } finally {
+            job.resume.countDown();
+            thread.join();
+        }
+        Assert.assertNull(suite.getStatusServerAddress());
+    }
+
+    @Test
+    public void testEventsWithoutFeed() throws Exception {
+        JobSuiteConfig config = new JobSuiteConfig();
+        config.setWorkdir(tempFolder.getRoot().getAbsolutePath());
+        config.setStatusChangeFeedCapacity(0);
+        config.setStatusServerAddress(new InetSocketAddress("localhost", 0));
+        final HalfWayJob job = new HalfWayJob();
+        final JobSuite suite = new JobSuite(job, config);
+        Thread thread = new Thread() {
+            @Override
+            public void run() {
+                suite.execute();
+            }
+        };
+        thread.start();
+        Assert.assertTrue(job.halfWay.await(10, TimeUnit.SECONDS));
+        try {
+            Assert.assertEquals(404, open("http://localhost:"
+                    + suite.getStatusServerAddress().getPort()
+                    + "/events").getResponseCode());
+        } finally {
+            job.resume.countDown();
+            thread.join();
+        }
+    }
+
+    @Test
+    public void testEventsTruncated() throws Exception {
+        JobSuiteConfig config = new JobSuiteConfig();
+        config.setWorkdir(tempFolder.getRoot().getAbsolutePath());
+        config.setStatusChangeFeedCapacity(1);
+        config.setStatusServerAddress(new InetSocketAddress("localhost", 0));
+        final HalfWayJob job = new HalfWayJob();
+        final JobSuite suite = new JobSuite(job, config);
+        Thread thread = new Thread() {
+            @Override
+            public void run() {
+                suite.execute();
+            }
+        };
+        thread.start();
+        Assert.assertTrue(job.halfWay.await(10, TimeUnit.SECONDS));
+        try {
+            Assert.assertEquals(2, suite.getOldestChangeVersion());
+            HttpURLConnection conn = open("http://localhost:"
+                    + suite.getStatusServerAddress().getPort() + "/events");
+            try (BufferedReader r = new BufferedReader(new InputStreamReader(
+                    conn.getInputStream(), StandardCharsets.UTF_8))) {
+                Assert.assertEquals("event: truncated", r.readLine());
+                Assert.assertEquals(
+                        "data: {\"oldestVersion\":2}", r.readLine());
+                Assert.assertEquals("", r.readLine());
+                Assert.assertEquals("id: 2", r.readLine());
+            }
+        } finally {
+            job.resume.countDown();
+            thread.join();
+        }
+    }
+
+    private static HttpURLConnection open(String url) throws IOException {
+        HttpURLConnection conn =
+                (HttpURLConnection) new URL(url).openConnection();
+        conn.setConnectTimeout(5000);
+        conn.setReadTimeout(5000);
+        return conn;
+    }
+    private static String read(InputStream is) throws IOException {
+        try {
+            return IOUtils.toString(is, StandardCharsets.UTF_8);
+        } finally {
+            is.close();
+        }
+    }
+
+    private static class HalfWayJob extends AbstractJob {
+        private final CountDownLatch halfWay = new CountDownLatch(1);
+        private final CountDownLatch resume = new CountDownLatch(1);
+        public HalfWayJob() {
+            super("half-way");
+        }
+        @Override
+        public void execute(JobStatusUpdater statusUpdater, JobSuite suite) {
+            statusUpdater.setProgress(0.5);
+            halfWay.countDown();
+            try {
+                resume.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            statusUpdater.setProgress(1d);
+        }
+        @Override
+        public void stop(IJobStatus status, JobSuite suite) {
+            resume.countDown();
+        }
+    }
+}
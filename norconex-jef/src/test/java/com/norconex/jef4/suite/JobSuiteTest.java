@@ -0,0 +1,266 @@
+/* Copyright 2026 Norconex Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.norconex.jef4.suite;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.norconex.commons.lang.Sleeper;
+import com.norconex.jef4.JEFUtil;
+import com.norconex.jef4.job.AbstractJob;
+import com.norconex.jef4.job.AbstractJobLifeCycleListener;
+import com.norconex.jef4.job.IJob;
+import com.norconex.jef4.job.IResourceBoundJob;
+import com.norconex.jef4.job.group.AsyncJobGroup;
+import com.norconex.jef4.job.group.SyncJobGroup;
+import com.norconex.jef4.metrics.HistogramMetrics;
+import com.norconex.jef4.metrics.MetricNames;
+import com.norconex.jef4.status.IJobStatus;
+import com.norconex.jef4.status.JobStatusChange;
+import com.norconex.jef4.status.JobStatusUpdater;
+import com.norconex.jef4.status.SnapshotJobStatusChangeFeed;
+
+public class JobSuiteTest {
+
+    @Rule
+    public TemporaryFolder tempFolder = new TemporaryFolder();
+
+    @Test
+    public void testListenerEvents() {
+        final List<String> events = new ArrayList<>();
+        JobSuiteConfig config = new JobSuiteConfig();
+        config.setWorkdir(tempFolder.getRoot().getAbsolutePath());
+        config.setJobLifeCycleListeners(new AbstractJobLifeCycleListener() {
+            @Override
+            public void jobStarted(IJobStatus status) {
+                events.add("started");
+            }
+            @Override
+            public void jobProgressed(IJobStatus status) {
+                events.add("progressed " + status.getProgress());
+            }
+            @Override
+            public void jobCompleted(IJobStatus status) {
+                events.add("completed");
+            }
+        });
+        config.setSuiteLifeCycleListeners(new AbstractSuiteLifeCycleListener() {
+            @Override
+            public void suiteCompleted(JobSuite suite) {
+                events.add("suite completed");
+            }
+        });
+        JobSuite suite = new JobSuite(new ProgressJob("job"), config);
+        Assert.assertTrue(suite.execute());
+        Assert.assertEquals("[started, progressed 0.5, progressed 1.0, "
+                + "completed, suite completed]", events.toString());
+    }
+
+    @Test
+    public void testAsyncListenerEvents() {
+        final List<String> events = 
+                Collections.synchronizedList(new ArrayList<String>());
+        JobSuiteConfig config = new JobSuiteConfig();
+        config.setWorkdir(tempFolder.getRoot().getAbsolutePath());
+        config.setEventBusConfig(new EventBusConfig());
+        config.setJobLifeCycleListeners(new AbstractJobLifeCycleListener() {
+            @Override
+            public void jobStarted(IJobStatus status) {
+                // Delivered late, but sees the status as when started
+                Sleeper.sleepMillis(20);
+                events.add("started " + status.getProgress());
+            }
+            @Override
+            public void jobProgressed(IJobStatus status) {
+                // Slow listener
+                Sleeper.sleepMillis(5);
+                events.add("progressed");
+            }
+            @Override
+            public void jobCompleted(IJobStatus status) {
+                events.add("completed " + status.getProgress());
+            }
+        });
+        JobSuite suite = new JobSuite(new ProgressJob("job", 1000), config);
+        Assert.assertTrue(suite.execute());
+
+        // Progress events were conflated, all delivered by the time
+        // execute returns, in order
+        EventBusStats stats = suite.getEventBusStats();
+        Assert.assertEquals(0, stats.getQueueDepth());
+        Assert.assertEquals(0, stats.getDroppedCount());
+        Assert.assertTrue(stats.getConflatedCount() > 0);
+        Assert.assertEquals(1000, stats.getConflatedCount()
+                + Collections.frequency(events, "progressed"));
+        Assert.assertEquals("started 0.0", events.get(0));
+        Assert.assertEquals("completed 1.0", events.get(events.size() - 1));
+    }
+
+    @Test
+    public void testThrottledPropagation() {
+        final AtomicInteger groupUpdates = new AtomicInteger();
+        JobSuiteConfig config = new JobSuiteConfig();
+        config.setWorkdir(tempFolder.getRoot().getAbsolutePath());
+        config.setProgressPropagationInterval(60000);
+        config.setJobLifeCycleListeners(new AbstractJobLifeCycleListener() {
+            @Override
+            public void jobProgressed(IJobStatus status) {
+                if ("group".equals(status.getJobId())) {
+                    groupUpdates.incrementAndGet();
+                }
+            }
+        });
+        IJob group = new SyncJobGroup("group",
+                new ProgressJob("job1", 1000), new ProgressJob("job2", 1000));
+        JobSuite suite = new JobSuite(group, config);
+        Assert.assertTrue(suite.execute());
+        // Only the first and last update of each job reached the group.
+        Assert.assertTrue("Too many group updates: " + groupUpdates,
+                groupUpdates.get() <= 8);
+        Assert.assertEquals(1d, suite.getJobStatus(group).getProgress(), 0d);
+    }
+
+    @Test
+    public void testResourcePools() {
+        final AtomicInteger running = new AtomicInteger();
+        final AtomicInteger maxRunning = new AtomicInteger();
+        JobSuiteConfig config = new JobSuiteConfig();
+        config.setWorkdir(tempFolder.getRoot().getAbsolutePath());
+        config.setResourcePool("db", 2);
+        IJob[] groups = new IJob[2];
+        for (int i = 0; i < groups.length; i++) {
+            IJob[] jobs = new IJob[3];
+            for (int j = 0; j < jobs.length; j++) {
+                jobs[j] = new DbJob("job" + i + j, running, maxRunning);
+            }
+            groups[i] = new AsyncJobGroup("group" + i, jobs);
+        }
+        JobSuite suite = new JobSuite(
+                new AsyncJobGroup("root", groups), config);
+        Assert.assertTrue(suite.execute());
+        // Each group could run 3 jobs, but they share 2 connections
+        Assert.assertEquals(2, maxRunning.get());
+    }
+
+    @Test
+    public void testStatusChangeFeed() {
+        JobSuiteConfig config = new JobSuiteConfig();
+        config.setWorkdir(tempFolder.getRoot().getAbsolutePath());
+        JobSuite suite = new JobSuite(new ProgressJob("job"), config);
+        Assert.assertTrue(suite.execute());
+        // Completion event did not change the status already complete.
+        Assert.assertEquals("[1:job=RUNNING@0.0, 2:job=RUNNING@0.5, "
+                + "3:job=COMPLETED@1.0]", suite.changesSince(0, 0).toString());
+        Assert.assertEquals("[3:job=COMPLETED@1.0]",
+                suite.changesSince(2, 0).toString());
+        Assert.assertTrue(suite.changesSince(3, 0).isEmpty());
+        Assert.assertEquals(1, suite.getOldestChangeVersion());
+
+        // Out of process
+        SnapshotJobStatusChangeFeed feed = new SnapshotJobStatusChangeFeed(
+                JEFUtil.getSuiteIndexFile(suite.getWorkdir(), suite.getId()));
+        List<JobStatusChange> changes = feed.changesSince(0, 0);
+        Assert.assertEquals(1, changes.size());
+        Assert.assertEquals(1d, changes.get(0).getProgress(), 0d);
+        Assert.assertTrue(feed.changesSince(1, 10).isEmpty());
+    }
+
+    @Test
+    public void testMetrics() {
+        HistogramMetrics metrics = new HistogramMetrics();
+        JobSuiteConfig config = new JobSuiteConfig();
+        config.setWorkdir(tempFolder.getRoot().getAbsolutePath());
+        config.setMetrics(metrics);
+        JobSuite suite = new JobSuite(new AsyncJobGroup("group",
+                new ProgressJob("job1"), new ProgressJob("job2")), config);
+        Assert.assertTrue(suite.execute());
+
+        Assert.assertEquals(2, metrics.getHistogram(MetricNames.JOB_RUN_TIME
+                + ProgressJob.class.getName()).getCount());
+        Assert.assertEquals(1, metrics.getHistogram(MetricNames.JOB_RUN_TIME
+                + AsyncJobGroup.class.getName()).getCount());
+        Assert.assertTrue(metrics.getHistogram(
+                MetricNames.STATUS_WRITE_TIME).getCount() >= 6);
+        Assert.assertTrue(metrics.getHistogram(
+                MetricNames.LISTENER_DISPATCH_TIME).getCount() > 0);
+        Assert.assertEquals(2, metrics.getHistogram(
+                MetricNames.GROUP_QUEUE_WAIT_TIME).getCount());
+        Assert.assertTrue(metrics.getGaugeNames().contains(
+                MetricNames.GROUP_ACTIVE_THREADS));
+        Assert.assertEquals(0, metrics.getGauge(
+                MetricNames.GROUP_ACTIVE_THREADS));
+        Assert.assertTrue(
+                metrics.getCounter(MetricNames.LOG_CHARS_WRITTEN) > 0);
+    }
+
+    private static class DbJob extends AbstractJob 
+            implements IResourceBoundJob {
+        private final AtomicInteger running;
+        private final AtomicInteger maxRunning;
+        public DbJob(String id, 
+                AtomicInteger running, AtomicInteger maxRunning) {
+            super(id);
+            this.running = running;
+            this.maxRunning = maxRunning;
+        }
+        @Override
+        public Map<String, Integer> getRequiredResources() {
+            return Collections.singletonMap("db", 1);
+        }
+        @Override
+        public void execute(JobStatusUpdater statusUpdater, JobSuite suite) {
+            int count = running.incrementAndGet();
+            synchronized (maxRunning) {
+                maxRunning.set(Math.max(maxRunning.get(), count));
+            }
+            Sleeper.sleepMillis(50);
+            running.decrementAndGet();
+            statusUpdater.setProgress(1d);
+        }
+        @Override
+        public void stop(IJobStatus status, JobSuite suite) {
+            // not stoppable
+        }
+    }
+
+    private static class ProgressJob extends AbstractJob {
+        private final int steps;
+        public ProgressJob(String id) {
+            this(id, 2);
+        }
+        public ProgressJob(String id, int steps) {
+            super(id);
+            this.steps = steps;
+        }
+        @Override
+        public void execute(JobStatusUpdater statusUpdater, JobSuite suite) {
+            for (int i = 1; i <= steps; i++) {
+                statusUpdater.setProgress((double) i / steps);
+            }
+        }
+        @Override
+        public void stop(IJobStatus status, JobSuite suite) {
+            // not stoppable
+        }
+    }
+}
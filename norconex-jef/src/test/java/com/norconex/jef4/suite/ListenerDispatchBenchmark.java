@@ -0,0 +1,102 @@
+/* Copyright 2026 Norconex Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.norconex.jef4.suite;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.commons.lang3.reflect.MethodUtils;
+
+import com.norconex.jef4.job.AbstractJobLifeCycleListener;
+import com.norconex.jef4.job.IJobLifeCycleListener;
+import com.norconex.jef4.status.IJobStatus;
+import com.norconex.jef4.status.MutableJobStatus;
+
+/**
+ * Measures the cost of firing a "jobProgressed" event to 1, 5 and 20
+ * listeners, with reflective dispatch (as done before 4.1.0)
+ * versus typed dispatch.
+ * Not a unit test: run it with its main method.
+ * @author agent
+ */
+public final class ListenerDispatchBenchmark {
+
+    private static final int EVENTS = 2000000;
+    private static final int[] LISTENER_COUNTS = { 1, 5, 20 };
+    private static final Class<?>[] PARAM_TYPES = { IJobStatus.class };
+
+    private static long sink;
+
+    private ListenerDispatchBenchmark() {
+        super();
+    }
+
+    public static void main(String[] args) throws Exception {
+        IJobStatus status = new MutableJobStatus("benchmark-job");
+        // warm-up
+        for (int count : LISTENER_COUNTS) {
+            reflective(listeners(count), status);
+            typed(listeners(count), status);
+        }
+        for (int count : LISTENER_COUNTS) {
+            List<IJobLifeCycleListener> listeners = listeners(count);
+            System.out.printf(
+                    "%2d listener(s): reflective %,8.1f ns/event, "
+                  + "typed %,6.1f ns/event%n", count,
+                    reflective(listeners, status),
+                    typed(listeners, status));
+        }
+        System.out.println("(" + sink + " events received)");
+    }
+
+    private static double reflective(
+            List<IJobLifeCycleListener> listeners, IJobStatus status)
+                    throws Exception {
+        long start = System.nanoTime();
+        for (int i = 0; i < EVENTS; i++) {
+            for (Object l : listeners) {
+                // Parameter types given as the status implementation
+                // class does not match the method signature exactly.
+                MethodUtils.invokeExactMethod(l, "jobProgressed",
+                        new Object[] { status }, PARAM_TYPES);
+            }
+        }
+        return (double) (System.nanoTime() - start) / EVENTS;
+    }
+
+    private static double typed(
+            List<IJobLifeCycleListener> listeners, IJobStatus status) {
+        long start = System.nanoTime();
+        for (int i = 0; i < EVENTS; i++) {
+            for (IJobLifeCycleListener l : listeners) {
+                JobLifeCycleEvent.PROGRESSED.fire(l, status);
+            }
+        }
+        return (double) (System.nanoTime() - start) / EVENTS;
+    }
+
+    private static List<IJobLifeCycleListener> listeners(int count) {
+        List<IJobLifeCycleListener> listeners = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            listeners.add(new AbstractJobLifeCycleListener() {
+                @Override
+                public void jobProgressed(IJobStatus status) {
+                    sink++;
+                }
+            });
+        }
+        return listeners;
+    }
+}
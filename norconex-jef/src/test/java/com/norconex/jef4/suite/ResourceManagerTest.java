@@ -0,0 +1,98 @@
+/* Copyright 2026 Norconex Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.norconex.jef4.suite;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.norconex.jef4.status.MutableJobStatus;
+
+public class ResourceManagerTest {
+
+    @Test
+    public void testFirstComeFirstServed() throws InterruptedException {
+        final ResourceManager manager = 
+                new ResourceManager(Collections.singletonMap("db", 2));
+        manager.acquire(db(1));
+
+        // Waits for 2 while only 1 is available
+        CountDownLatch large = acquireLater(manager, db(2));
+        Assert.assertFalse(large.await(100, TimeUnit.MILLISECONDS));
+        // 1 is available, but it must wait its turn
+        CountDownLatch small = acquireLater(manager, db(1));
+        Assert.assertFalse(small.await(100, TimeUnit.MILLISECONDS));
+
+        manager.release(db(1));
+        Assert.assertTrue(large.await(5, TimeUnit.SECONDS));
+        Assert.assertFalse(small.await(100, TimeUnit.MILLISECONDS));
+        manager.release(db(2));
+        Assert.assertTrue(small.await(5, TimeUnit.SECONDS));
+        Assert.assertEquals(db(1), manager.getAvailable());
+    }
+
+    @Test
+    public void testStopWhileWaiting() throws InterruptedException {
+        ResourceManager manager = 
+                new ResourceManager(Collections.singletonMap("db", 1));
+        manager.acquire(db(1));
+        MutableJobStatus status = new MutableJobStatus("job");
+        status.setStopRequested(true);
+        Assert.assertFalse(manager.acquire(db(1), status));
+        manager.release(db(1));
+        // Nothing taken by the stopped request
+        Assert.assertEquals(db(1), manager.getAvailable());
+        Assert.assertFalse(manager.acquire(db(1), status));
+        Assert.assertEquals(db(1), manager.getAvailable());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeAmount() throws InterruptedException {
+        new ResourceManager(Collections.singletonMap("db", 1)).acquire(db(-1));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNullAmount() throws InterruptedException {
+        new ResourceManager(Collections.singletonMap("db", 1)).acquire(
+                Collections.<String, Integer>singletonMap("db", null));
+    }
+
+    private CountDownLatch acquireLater(
+            final ResourceManager manager, final Map<String, Integer> res) {
+        final CountDownLatch acquired = new CountDownLatch(1);
+        Thread thread = new Thread() {
+            @Override
+            public void run() {
+                try {
+                    manager.acquire(res);
+                    acquired.countDown();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        };
+        thread.setDaemon(true);
+        thread.start();
+        return acquired;
+    }
+
+    private static Map<String, Integer> db(int amount) {
+        return Collections.singletonMap("db", amount);
+    }
+}
@@ -0,0 +1,88 @@
+/* Copyright 2026 Norconex Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.norconex.jef4.suite;
+
+import java.io.File;
+import java.io.IOException;
+
+import org.apache.commons.io.FileUtils;
+import org.apache.log4j.Level;
+import org.apache.log4j.Logger;
+
+import com.norconex.jef4.job.AbstractJob;
+import com.norconex.jef4.status.IJobStatus;
+import com.norconex.jef4.status.JobStatusUpdater;
+
+/**
+ * Measures how many status updates per second a job can report, with
+ * status updates written immediately versus written behind.
+ * Not a unit test: run it with its main method.
+ * @author agent
+ */
+public final class StatusWriteBenchmark {
+
+    private static final int UPDATES = 20000;
+
+    private StatusWriteBenchmark() {
+        super();
+    }
+
+    public static void main(String[] args) throws IOException {
+        Logger.getLogger("com.norconex.jef4").setLevel(Level.WARN);
+        File workdir = new File(
+                FileUtils.getTempDirectory(), "jef-status-write-benchmark");
+        // warm-up
+        run(workdir, 0);
+        run(workdir, 500);
+
+        double writeThrough = run(workdir, 0);
+        double writeBehind = run(workdir, 500);
+        System.out.printf("Write-through: %,.0f updates/sec%n", writeThrough);
+        System.out.printf("Write-behind:  %,.0f updates/sec%n", writeBehind);
+    }
+
+    private static double run(File workdir, long writeInterval)
+            throws IOException {
+        FileUtils.deleteDirectory(workdir);
+        JobSuiteConfig config = new JobSuiteConfig();
+        config.setWorkdir(workdir.getAbsolutePath());
+        config.setStatusWriteInterval(writeInterval);
+        ProgressJob job = new ProgressJob();
+        JobSuite suite = new JobSuite(job, config);
+        if (!suite.execute()) {
+            throw new IllegalStateException("Benchmark suite failed.");
+        }
+        return UPDATES / (job.elapsedNanos / 1000000000d);
+    }
+
+    private static class ProgressJob extends AbstractJob {
+        private long elapsedNanos;
+        public ProgressJob() {
+            super("status-write-benchmark");
+        }
+        @Override
+        public void execute(JobStatusUpdater statusUpdater, JobSuite suite) {
+            long start = System.nanoTime();
+            for (int i = 1; i <= UPDATES; i++) {
+                statusUpdater.setProgress((double) i / UPDATES);
+            }
+            elapsedNanos = System.nanoTime() - start;
+        }
+        @Override
+        public void stop(IJobStatus status, JobSuite suite) {
+            // not stoppable
+        }
+    }
+}
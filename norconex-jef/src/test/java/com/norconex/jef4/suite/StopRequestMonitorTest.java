@@ -0,0 +1,105 @@
+/* Copyright 2026 Norconex Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.norconex.jef4.suite;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.norconex.jef4.job.AbstractJob;
+import com.norconex.jef4.job.AbstractJobLifeCycleListener;
+import com.norconex.jef4.status.IJobStatus;
+import com.norconex.jef4.status.JobStatusUpdater;
+
+public class StopRequestMonitorTest {
+
+    @Rule
+    public TemporaryFolder tempFolder = new TemporaryFolder();
+
+    @Test
+    public void testStopFileDetection() throws Exception {
+        assertStopFileDetected(false);
+    }
+
+    @Test
+    public void testStopFilePolling() throws Exception {
+        assertStopFileDetected(true);
+    }
+
+    private void assertStopFileDetected(boolean polling) throws Exception {
+        JobSuiteConfig config = new JobSuiteConfig();
+        config.setWorkdir(tempFolder.getRoot().getAbsolutePath());
+        config.setStopFilePolling(polling);
+        final WaitingJob job = new WaitingJob();
+        final List<String> events = 
+                Collections.synchronizedList(new ArrayList<String>());
+        config.setJobLifeCycleListeners(new AbstractJobLifeCycleListener() {
+            @Override
+            public void jobStopped(IJobStatus status) {
+                events.add("job stopped");
+            }
+        });
+        config.setSuiteLifeCycleListeners(new AbstractSuiteLifeCycleListener() {
+            @Override
+            public void suiteStopped(JobSuite suite) {
+                events.add("suite stopped");
+            }
+        });
+        final JobSuite suite = new JobSuite(job, config);
+        Thread thread = new Thread() {
+            @Override
+            public void run() {
+                suite.execute();
+            }
+        };
+        thread.start();
+        Assert.assertTrue(job.started.await(10, TimeUnit.SECONDS));
+        suite.stop();
+        Assert.assertTrue("Stop request not detected.",
+                job.stopped.await(10, TimeUnit.SECONDS));
+        thread.join();
+        Assert.assertFalse(suite.getSuiteStopFile().exists());
+        // Notified as soon as the job returned
+        Assert.assertEquals("[job stopped, suite stopped]", events.toString());
+    }
+
+    private static class WaitingJob extends AbstractJob {
+        private final CountDownLatch started = new CountDownLatch(1);
+        private final CountDownLatch stopped = new CountDownLatch(1);
+        public WaitingJob() {
+            super("waiting-job");
+        }
+        @Override
+        public void execute(JobStatusUpdater statusUpdater, JobSuite suite) {
+            started.countDown();
+            try {
+                stopped.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        @Override
+        public void stop(IJobStatus status, JobSuite suite) {
+            stopped.countDown();
+        }
+    }
+}